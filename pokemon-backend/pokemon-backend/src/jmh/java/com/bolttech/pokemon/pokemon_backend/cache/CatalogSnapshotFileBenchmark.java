@@ -0,0 +1,52 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding the catalog snapshot written at shutdown, which is what a restart waits on before serving.
+ * Every entry carries validators, as after a real ingestion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CatalogSnapshotFileBenchmark {
+
+    @Param({"1025", "10000"})
+    int catalogSize;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        Map<Integer, ResourceValidators> validators = new HashMap<>();
+        for (int id = 1; id <= catalogSize; id++) validators.put(id, new ResourceValidators("\"" + id + "\"", null, "h" + id));
+        encoded = CatalogSnapshotFile.encode(CatalogSnapshot.of(BenchmarkCatalogs.pokemons(catalogSize), validators, 1, Instant.now(), false));
+    }
+
+    @Benchmark
+    public CatalogSnapshot decode() {
+        return CatalogSnapshotFile.decode(ByteBuffer.wrap(encoded), "benchmark");
+    }
+}
@@ -0,0 +1,64 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties.ValueFormat;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis value encoding of one catalog entry, in the binary format and the legacy JSON one.
+ * Reads (L1 misses) are far more frequent than writes (catalog publishes), so decoding is measured on its own too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PokemonRedisSerializerBenchmark {
+
+    // Power of two, so the next entry is a mask away
+    private static final int ENTRIES = 256;
+
+    @Param({"BINARY", "JSON"})
+    ValueFormat format;
+
+    private PokemonRedisSerializer serializer;
+
+    private List<Pokemon> pokemons;
+
+    private byte[][] values;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        serializer = new PokemonRedisSerializer(format);
+        pokemons = BenchmarkCatalogs.pokemons(ENTRIES);
+        values = new byte[ENTRIES][];
+        for (int i = 0; i < ENTRIES; i++) values[i] = serializer.serialize(pokemons.get(i));
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return serializer.deserialize(serializer.serialize(pokemons.get(next++ & (ENTRIES - 1))));
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(values[next++ & (ENTRIES - 1)]);
+    }
+}
@@ -0,0 +1,84 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.config.RedisConfig;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-cache read of 20 entries from a local (embedded) Redis: one MGET against 20 single GETs.
+ * L1 is disabled so every read goes to Redis, as the first reads after a catalog change do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PokemonRedisStoreBenchmark {
+
+    private final int[] ids = new int[20];
+
+    private RedisServer server;
+
+    private LettuceConnectionFactory connectionFactory;
+
+    private PokemonRedisStore reader;
+
+    @Setup
+    public void setUp() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory, new PokemonProperties());
+
+        new PokemonRedisStore(redisTemplate, new PokemonProperties())
+                .writeThrough(CatalogSnapshot.of(BenchmarkCatalogs.pokemons(1000)), null);
+        PokemonProperties noL1 = new PokemonProperties();
+        noL1.getRedis().setL1MaxEntries(0);
+        reader = new PokemonRedisStore(redisTemplate, noL1);
+        for (int i = 0; i < ids.length; i++) ids[i] = 1 + i * 37;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @Benchmark
+    public Pokemon[] mget() {
+        return reader.getAll(ids);
+    }
+
+    @Benchmark
+    public void gets(Blackhole blackhole) {
+        for (int id : ids) blackhole.consume(reader.get(id));
+    }
+}
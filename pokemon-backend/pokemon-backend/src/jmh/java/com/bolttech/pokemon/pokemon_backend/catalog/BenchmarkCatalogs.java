@@ -0,0 +1,65 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.type.PokemonType;
+import com.bolttech.pokemon.pokemon_backend.type.TypeChart;
+import com.bolttech.pokemon.pokemon_backend.type.TypeProfile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic catalogs for the benchmarks, built the way ingestion builds entries: PokeAPI sprite URLs,
+ * one or two types, and the type profile from the chart. Seeded, so every run sees the same catalog.
+ */
+public final class BenchmarkCatalogs {
+
+    private static final String SPRITE_BASE = "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/";
+
+    private static final String[] REGIONS = {"kanto", "johto", "hoenn", "sinnoh", "unova", "kalos", "alola", "galar", "paldea"};
+
+    private BenchmarkCatalogs() {
+    }
+
+    /**
+     * Pokémon with ids 1..size
+     */
+    public static List<Pokemon> pokemons(int size) {
+        Random random = new Random(42);
+        List<Pokemon> pokemons = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            List<String> types = types(random);
+            TypeProfile profile = TypeChart.profile(types);
+            pokemons.add(Pokemon.builder()
+                    .id(id)
+                    .name("Pokemon-" + id)
+                    .frontImage(SPRITE_BASE + id + ".png")
+                    .backImage(SPRITE_BASE + "back/" + id + ".png")
+                    .types(types)
+                    .region(REGIONS[id * REGIONS.length / (size + 1)])
+                    .weaknesses(profile.weaknesses())
+                    .resistances(profile.resistances())
+                    .immunities(profile.immunities())
+                    .build());
+        }
+        return pokemons;
+    }
+
+    /**
+     * Published catalog of the given size
+     */
+    public static PokemonCatalog catalog(int size) {
+        PokemonCatalog catalog = new PokemonCatalog();
+        catalog.publish(pokemons(size));
+        return catalog;
+    }
+
+    // About half of all Pokémon have a second type
+    private static List<String> types(Random random) {
+        PokemonType primary = PokemonType.byOrdinal(random.nextInt(PokemonType.COUNT));
+        if (random.nextBoolean()) return List.of(primary.apiName());
+        PokemonType secondary = PokemonType.byOrdinal(random.nextInt(PokemonType.COUNT));
+        return secondary == primary ? List.of(primary.apiName()) : List.of(primary.apiName(), secondary.apiName());
+    }
+}
@@ -0,0 +1,62 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Search-as-you-type over 1300 pronounceable names: every prefix of a name as it is typed, plus a typo'd variant
+ * that only the fuzzy pass finds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NameSearchBenchmark {
+
+    private static final String[] SYLLABLES = {"ba", "chu", "dra", "gon", "pi", "ka", "saur", "mon", "ti", "lo", "ra", "zor", "fen", "nix"};
+
+    private CatalogSnapshot snapshot;
+
+    private final List<String> queries = new ArrayList<>();
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 1; id <= 1300; id++) {
+            StringBuilder name = new StringBuilder();
+            for (int s = 2 + random.nextInt(3); s > 0; s--) name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            pokemons.add(Pokemon.builder().id(id).name(name.toString()).build());
+        }
+        snapshot = CatalogSnapshot.of(pokemons);
+
+        for (int i = 0; i < 200; i++) {
+            String name = pokemons.get(random.nextInt(pokemons.size())).getName();
+            for (int end = 1; end <= name.length(); end++) queries.add(name.substring(0, end));
+            queries.add(name.substring(1));
+        }
+    }
+
+    @Benchmark
+    public List<Pokemon> keystroke() {
+        return snapshot.search(queries.get(next++ % queries.size()), 10);
+    }
+}
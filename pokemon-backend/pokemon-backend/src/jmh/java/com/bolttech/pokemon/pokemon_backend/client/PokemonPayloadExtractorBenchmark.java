@@ -0,0 +1,60 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing the generated payloads in the PokeAPI /pokemon shape (the test fixtures, a few hundred KB each).
+ * {@code fullTree} is the JsonNode parse the streaming extractor replaced, kept as a reference point.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PokemonPayloadExtractorBenchmark {
+
+    @Param({"pokemon-1.json", "pokemon-6.json"})
+    String fixture;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PokemonPayloadExtractor extractor = new PokemonPayloadExtractor(objectMapper);
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/pokeapi/" + fixture)) {
+            if (in == null) throw new IllegalStateException("Missing fixture " + fixture);
+            payload = in.readAllBytes();
+        }
+    }
+
+    @Benchmark
+    public PokemonPayload extract() throws IOException {
+        return extractor.extract(new ByteArrayInputStream(payload));
+    }
+
+    @Benchmark
+    public JsonNode fullTree() throws IOException {
+        return objectMapper.readTree(payload);
+    }
+}
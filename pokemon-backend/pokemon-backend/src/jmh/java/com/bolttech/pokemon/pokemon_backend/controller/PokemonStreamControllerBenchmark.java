@@ -0,0 +1,114 @@
+package com.bolttech.pokemon.pokemon_backend.controller;
+
+import com.bolttech.pokemon.pokemon_backend.PokemonBackendApplication;
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.service.CatalogWarmup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clients reading the whole catalog from a running server: one NDJSON stream per client against offset
+ * paging at the frontend's page size. One operation is one client reading all entries; the benchmark
+ * threads are the concurrent clients. Server, embedded Redis and clients share the benchmark JVM and CPU.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class PokemonStreamControllerBenchmark {
+
+    private static final int CATALOG_SIZE = 1025;
+
+    private static final int PAGE_SIZE = 20;
+
+    private RedisServer redis;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient http;
+
+    private String baseUrl;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        int redisPort = freePort();
+        redis = new RedisServer(redisPort);
+        redis.start();
+        // Arguments rather than builder properties, which application.properties would override
+        context = new SpringApplicationBuilder(PokemonBackendApplication.class).run(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=ERROR",
+                "--spring.data.redis.port=" + redisPort,
+                "--pokemon.catalog.snapshot-file=",
+                "--pokemon.ingestion.checkpoint-file=",
+                // The warm-up fails fast against a closed port, then the synthetic catalog is published
+                "--pokemon.upstream.base-url=http://127.0.0.1:" + freePort(),
+                "--pokemon.ingestion.last-id=1",
+                "--pokemon.resilience.max-attempts=1");
+        CatalogWarmup warmup = context.getBean(CatalogWarmup.class);
+        while (warmup.isRunning()) Thread.sleep(10);
+        context.getBean(PokemonCatalog.class).publish(BenchmarkCatalogs.pokemons(CATALOG_SIZE));
+
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        redis.stop();
+    }
+
+    @Benchmark
+    public int stream() throws IOException, InterruptedException {
+        return read("/api/pokemons/stream", "application/x-ndjson");
+    }
+
+    @Benchmark
+    public int pages() throws IOException, InterruptedException {
+        int bytes = 0;
+        for (int page = 0; page * PAGE_SIZE < CATALOG_SIZE; page++) {
+            bytes += read("/api/pokemons?page=" + page + "&size=" + PAGE_SIZE, "application/json");
+        }
+        return bytes;
+    }
+
+    private int read(String path, String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Accept", accept).build();
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) throw new IllegalStateException(path + " answered " + response.statusCode());
+        return response.body().length;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.cache.IngestionCheckpoint;
+import com.bolttech.pokemon.pokemon_backend.cache.PokemonRedisStore;
+import com.bolttech.pokemon.pokemon_backend.cache.RefreshLease;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogStatus;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.client.PokeApiClient;
+import com.bolttech.pokemon.pokemon_backend.client.PokemonPayloadExtractor;
+import com.bolttech.pokemon.pokemon_backend.client.UpstreamClientStats;
+import com.bolttech.pokemon.pokemon_backend.config.IngestionExecutorConfig;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Wall-clock of one ingestion run of 150 ids against a local PokeAPI stub that answers every call after a fixed
+ * latency. COMMON_POOL is the fan-out before the dedicated executor: supplyAsync on ForkJoinPool.commonPool(),
+ * pinned to the 2 threads it gets on a 3-CPU container. PLATFORM is the default bounded ingestion pool.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=2")
+@State(Scope.Benchmark)
+public class IngestionBenchmark {
+
+    private static final int IDS = 150;
+
+    private static final long LATENCY_MILLIS = 50;
+
+    private static final byte[] POKEMON_JSON = """
+            {"id": 1, "name": "bulbasaur", "types": [{"type": {"name": "grass"}}],
+             "sprites": {"front_default": "https://example.com/front.png"}}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @Param({"COMMON_POOL", "PLATFORM"})
+    String executor;
+
+    private HttpServer server;
+
+    private ExecutorService ingestionExecutor;
+
+    private PokemonService service;
+
+    @Setup
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/pokemon/", exchange -> {
+            sleep(LATENCY_MILLIS);
+            send(exchange, POKEMON_JSON);
+        });
+        server.createContext("/generation", exchange -> send(exchange, "{\"results\": []}".getBytes(StandardCharsets.UTF_8)));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        PokemonProperties properties = new PokemonProperties();
+        properties.getUpstream().setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getUpstream().setRateLimitPerSecond(0);
+        properties.getIngestion().setLastId(IDS);
+        properties.getIngestion().setCheckpointFile("");
+        properties.getIngestion().setExecutor(PokemonProperties.ExecutorMode.PLATFORM);
+        properties.getRefresh().setInterval(Duration.ZERO);
+        ingestionExecutor = IngestionExecutorConfig.create(properties.getIngestion());
+
+        // A single node that always holds the refresh lease and finds nothing shared in Redis
+        RefreshLease lease = mock(RefreshLease.class);
+        when(lease.tryAcquire()).thenReturn(true);
+        when(lease.renew()).thenReturn(true);
+        PokeApiClient client = new PokeApiClient(new RestTemplate(), new PokemonPayloadExtractor(new ObjectMapper()),
+                new UpstreamClientStats("benchmark"), properties);
+        service = new PokemonService(client, new PokemonCatalog(), properties,
+                executor.equals("COMMON_POOL") ? ForkJoinPool.commonPool() : ingestionExecutor,
+                mock(PokemonRedisStore.class), new IngestionCheckpoint(properties), lease);
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        ingestionExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public CatalogStatus ingest() {
+        service.refreshCache();
+        return service.getCatalogStatus();
+    }
+
+    private static void send(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
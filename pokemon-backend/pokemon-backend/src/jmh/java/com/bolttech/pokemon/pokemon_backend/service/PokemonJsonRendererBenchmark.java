@@ -0,0 +1,66 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body of a page of 20 over a full dex: Jackson serialization per request (the previous path)
+ * against assembling the page from the bytes pre-rendered at publish, with its ETag.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PokemonJsonRendererBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PokemonJsonRenderer renderer;
+
+    private CatalogSnapshot snapshot;
+
+    private int pages;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        List<Object> events = new ArrayList<>();
+        PokemonCatalog catalog = new PokemonCatalog(events::add);
+        renderer = new PokemonJsonRenderer(objectMapper, catalog);
+        catalog.publish(BenchmarkCatalogs.pokemons(1025));
+        renderer.onCatalogPublished((CatalogPublishedEvent) events.get(events.size() - 1));
+        snapshot = catalog.current();
+        pages = snapshot.size() / 20 + 1;
+    }
+
+    @Benchmark
+    public byte[] jackson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(snapshot.page(next++ % pages, 20));
+    }
+
+    @Benchmark
+    public byte[] rendered() {
+        return renderer.list(snapshot.page(next++ % pages, 20)).body();
+    }
+}
@@ -0,0 +1,76 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read path of the service over a published catalog: page and id lookups as the controller makes them.
+ * Reads are served from the local snapshot, so the upstream client, Redis store and refresh lease are not needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PokemonServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    // Power of two, so the next id or page is a mask away
+    private static final int LOOKUPS = 1024;
+
+    @Param({"150", "1000", "10000"})
+    int catalogSize;
+
+    private PokemonService service;
+
+    private final int[] ids = new int[LOOKUPS];
+
+    private final int[] pages = new int[LOOKUPS];
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        service = new PokemonService(null, BenchmarkCatalogs.catalog(catalogSize), new PokemonProperties(),
+                Runnable::run, null, null, null);
+        Random random = new Random(7);
+        int pageCount = (catalogSize + PAGE_SIZE - 1) / PAGE_SIZE;
+        for (int i = 0; i < LOOKUPS; i++) {
+            ids[i] = 1 + random.nextInt(catalogSize);
+            pages[i] = random.nextInt(pageCount);
+        }
+    }
+
+    @Benchmark
+    public List<Pokemon> firstPage() {
+        return service.fetchPokemonPage(0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Pokemon> randomPage() {
+        return service.fetchPokemonPage(pages[next++ & (LOOKUPS - 1)], PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Pokemon byId() {
+        return service.fetchPokemonById(ids[next++ & (LOOKUPS - 1)]);
+    }
+}
@@ -0,0 +1,86 @@
+package com.bolttech.pokemon.pokemon_backend.type;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.BenchmarkCatalogs;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonFilter;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weakness mapping: the per-entry profile lookup done at ingestion, reading weaknesses back from an entry,
+ * and the catalog-wide weakness filter and matchup ranking.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeChartBenchmark {
+
+    private static final PokemonFilter WEAK_TO_WATER = new PokemonFilter(List.of(), List.of("water"));
+
+    // Every type combination, as fresh lists like the ones parsed from PokeAPI
+    private final List<List<String>> typeLists = new ArrayList<>();
+
+    private List<Pokemon> entries;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int combo = 0; combo < TypeChart.COMBOS; combo++) {
+            List<String> names = TypeChart.names(combo);
+            if (!names.isEmpty()) typeLists.add(new ArrayList<>(names));
+        }
+        entries = BenchmarkCatalogs.pokemons(1024);
+    }
+
+    @Benchmark
+    public TypeProfile profile() {
+        return TypeChart.profile(typeLists.get(next++ % typeLists.size()));
+    }
+
+    @Benchmark
+    public List<String> entryWeaknesses() {
+        return entries.get(next++ & 1023).getWeaknesses();
+    }
+
+    @Benchmark
+    public List<Pokemon> weakToFilterPage(Catalog catalog) {
+        return catalog.snapshot.page(WEAK_TO_WATER, 0, 20);
+    }
+
+    @Benchmark
+    public List<Matchup> matchups(Catalog catalog) {
+        return catalog.snapshot.matchups(List.of("fire"), 20);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+
+        @Param({"150", "1000", "10000"})
+        int catalogSize;
+
+        CatalogSnapshot snapshot;
+
+        @Setup
+        public void setUp() {
+            snapshot = BenchmarkCatalogs.catalog(catalogSize).current();
+        }
+    }
+}
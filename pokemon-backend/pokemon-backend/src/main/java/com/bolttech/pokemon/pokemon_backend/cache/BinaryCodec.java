@@ -0,0 +1,133 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Varint/length-prefixed primitives shared by the Redis value encoding and the on-disk catalog snapshot.
+ * Strings are a varint (byte length + 1) followed by UTF-8, lists a varint (count + 1) followed by strings;
+ * 0 encodes null.
+ */
+final class BinaryCodec {
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * id, name, types, frontImage, backImage, region, weaknesses, resistances, immunities
+     */
+    static void writePokemon(Writer out, Pokemon pokemon) {
+        out.writeVarint(pokemon.getId());
+        out.writeString(pokemon.getName());
+        out.writeList(pokemon.getTypes());
+        out.writeString(pokemon.getFrontImage());
+        out.writeString(pokemon.getBackImage());
+        out.writeString(pokemon.getRegion());
+        out.writeList(pokemon.getWeaknesses());
+        out.writeList(pokemon.getResistances());
+        out.writeList(pokemon.getImmunities());
+    }
+
+    /**
+     * @param withProfile false for entries written before resistances/immunities were stored
+     */
+    static Pokemon readPokemon(Reader in, boolean withProfile) {
+        Pokemon.Builder pokemon = Pokemon.builder()
+                .id(in.readVarint())
+                .name(in.readString())
+                .types(in.readList())
+                .frontImage(in.readString())
+                .backImage(in.readString())
+                .region(in.readString())
+                .weaknesses(in.readList());
+        if (withProfile) {
+            pokemon.resistances(in.readList()).immunities(in.readList());
+        }
+        return pokemon.build();
+    }
+
+    static final class Writer extends ByteArrayOutputStream {
+
+        Writer(int initialSize) {
+            super(initialSize);
+        }
+
+        void writeVarint(int value) {
+            while ((value & ~0x7F) != 0) {
+                write((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            write(value);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                write(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length + 1);
+            write(utf8, 0, utf8.length);
+        }
+
+        void writeList(List<String> values) {
+            if (values == null) {
+                write(0);
+                return;
+            }
+            writeVarint(values.size() + 1);
+            for (String value : values) writeString(value);
+        }
+    }
+
+    /**
+     * Reads from a heap or mapped buffer; a truncated input fails with an IndexOutOfBounds/BufferUnderflow exception.
+     */
+    static final class Reader {
+
+        private final ByteBuffer buffer;
+
+        Reader(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        int readVarint() {
+            int value = 0;
+            for (int shift = 0; ; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) return value;
+            }
+        }
+
+        String readString() {
+            int length = readVarint() - 1;
+            if (length < 0) return null;
+            if (length > buffer.remaining()) throw new BufferUnderflowException();
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+            } else {
+                byte[] utf8 = new byte[length];
+                buffer.get(utf8);
+                value = new String(utf8, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+
+        List<String> readList() {
+            int count = readVarint() - 1;
+            if (count < 0) return null;
+            List<String> values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) values.add(readString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Subscribes the {@link PokemonRedisStore} to cross-node invalidations.
+ * The container is started from the scheduler rather than as a lifecycle bean,
+ * so an unreachable Redis delays the subscription instead of failing startup.
+ */
+@Component
+public class CacheInvalidationSubscriber {
+
+    private final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+
+    public CacheInvalidationSubscriber(RedisConnectionFactory connectionFactory, PokemonRedisStore redisStore) {
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisStore, new ChannelTopic(PokemonRedisStore.INVALIDATION_CHANNEL));
+        container.afterPropertiesSet();
+    }
+
+    /**
+     * (Re)subscribe if not listening; once subscribed the container recovers from connection loss itself
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void ensureSubscribed() {
+        if (container.isListening()) return;
+        try {
+            container.stop();
+            container.start();
+        } catch (RuntimeException e) {
+            System.err.println("Cache invalidation channel unavailable: " + e.getMessage());
+        }
+    }
+
+    public boolean isListening() {
+        return container.isListening();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        container.destroy();
+    }
+}
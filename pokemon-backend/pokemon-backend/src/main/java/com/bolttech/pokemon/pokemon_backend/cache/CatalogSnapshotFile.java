@@ -0,0 +1,218 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import jakarta.annotation.PostConstruct;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Local binary copy of the last real catalog, so a restart can serve it before touching PokeAPI or Redis.
+ * <pre>
+ *   magic "PKCS" | int format | long catalog version | long publishedAt (epoch ms)
+ *   | int entry count | int payload length | long CRC32 of payload | payload
+ * </pre>
+ * The payload holds, per entry, the {@link BinaryCodec} Pokémon encoding followed by its upstream
+ * validators (etag, lastModified, contentHash, speciesId), so the background refresh after a restart is conditional.
+ * Files are replaced atomically and read through a memory mapping.
+ */
+@Component
+public class CatalogSnapshotFile {
+
+    static final int MAGIC = 0x504B4353; // "PKCS"
+    static final int FORMAT_V1 = 1;
+    // Adds resistances/immunities to each entry
+    static final int FORMAT_V2 = 2;
+    // Adds the species id to each entry's validators
+    static final int FORMAT_V3 = 3;
+    static final int HEADER_BYTES = 40;
+
+    private final PokemonCatalog catalog;
+
+    private final Path path;
+
+    public CatalogSnapshotFile(PokemonCatalog catalog, PokemonProperties properties) {
+        this.catalog = catalog;
+        String file = properties.getCatalog().getSnapshotFile();
+        this.path = file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Serve the last saved catalog right away; the warm-up revalidates it against PokeAPI once it is due
+     */
+    @PostConstruct
+    public void restore() {
+        if (path == null) return;
+        long start = System.nanoTime();
+        CatalogSnapshot snapshot = read();
+        if (snapshot == null || !catalog.restore(snapshot)) return;
+        System.out.println("Restored catalog version " + snapshot.getVersion() + " (" + snapshot.size() + " Pokemon) from "
+                + path + " in " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Save every published (non-placeholder) catalog
+     */
+    @EventListener
+    public void onCatalogPublished(CatalogPublishedEvent event) {
+        if (path == null || event.snapshot().isFallback()) return;
+        try {
+            write(event.snapshot());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error writing catalog snapshot to " + path + ": " + e.getMessage());
+        }
+    }
+
+    public void write(CatalogSnapshot snapshot) throws IOException {
+        save(path, snapshot);
+    }
+
+    /**
+     * The saved catalog, or null if there is none or it fails validation
+     */
+    public CatalogSnapshot read() {
+        return load(path);
+    }
+
+    public Path getPath() { return path; }
+
+    /**
+     * Atomically replace the file at path with the given snapshot
+     */
+    static void save(Path path, CatalogSnapshot snapshot) throws IOException {
+        save(path, encode(snapshot));
+    }
+
+    /**
+     * Atomically replace the file at path with bytes already in the file format
+     */
+    static void save(Path path, byte[] encoded) throws IOException {
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(encoded));
+            channel.force(false);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Snapshot stored at path, or null if there is none or it fails validation
+     */
+    static CatalogSnapshot load(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), path.toString());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            return invalid(path.toString(), e.toString());
+        }
+    }
+
+    /**
+     * Header and payload of a snapshot in the file format, also used for the copy shared through Redis
+     */
+    static byte[] encode(CatalogSnapshot snapshot) {
+        return encode(snapshot.all(), snapshot::validators, snapshot.getVersion(), snapshot.getPublishedAt());
+    }
+
+    /**
+     * Entries written straight to the file format, without building the snapshot's indexes first
+     */
+    static byte[] encode(List<Pokemon> pokemons, IntFunction<ResourceValidators> validators, long version,
+                         Instant publishedAt) {
+        BinaryCodec.Writer payload = new BinaryCodec.Writer(pokemons.size() * 256);
+        for (Pokemon p : pokemons) {
+            BinaryCodec.writePokemon(payload, p);
+            ResourceValidators v = validators.apply(p.getId());
+            payload.writeString(v == null ? null : v.etag());
+            payload.writeString(v == null ? null : v.lastModified());
+            payload.writeString(v == null ? null : v.contentHash());
+            payload.writeVarint(v == null ? 0 : v.speciesId());
+        }
+        byte[] body = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        return ByteBuffer.allocate(HEADER_BYTES + body.length)
+                .putInt(MAGIC)
+                .putInt(FORMAT_V3)
+                .putLong(version)
+                .putLong(publishedAt.toEpochMilli())
+                .putInt(pokemons.size())
+                .putInt(body.length)
+                .putLong(crc.getValue())
+                .put(body)
+                .array();
+    }
+
+    /**
+     * Snapshot encoded in the buffer (read from source), or null if it fails validation
+     */
+    static CatalogSnapshot decode(ByteBuffer buffer, String source) {
+        try {
+            long size = buffer.remaining();
+            if (size < HEADER_BYTES) return invalid(source, "truncated header");
+
+            if (buffer.getInt() != MAGIC) return invalid(source, "not a catalog snapshot");
+            int format = buffer.getInt();
+            if (format < FORMAT_V1 || format > FORMAT_V3) return invalid(source, "unsupported format " + format);
+            long version = buffer.getLong();
+            Instant publishedAt = Instant.ofEpochMilli(buffer.getLong());
+            int count = buffer.getInt();
+            int length = buffer.getInt();
+            long checksum = buffer.getLong();
+            if (count < 0 || length < 0 || HEADER_BYTES + (long) length != size) return invalid(source, "size mismatch");
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if (crc.getValue() != checksum) return invalid(source, "checksum mismatch");
+
+            BinaryCodec.Reader in = new BinaryCodec.Reader(buffer);
+            List<Pokemon> pokemons = new ArrayList<>(count);
+            Map<Integer, ResourceValidators> validators = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                Pokemon p = BinaryCodec.readPokemon(in, format >= FORMAT_V2);
+                ResourceValidators v = new ResourceValidators(in.readString(), in.readString(), in.readString(),
+                        format >= FORMAT_V3 ? in.readVarint() : 0);
+                pokemons.add(p);
+                if (v.etag() != null || v.lastModified() != null || v.contentHash() != null || v.speciesId() > 0) {
+                    validators.put(p.getId(), v);
+                }
+            }
+            return CatalogSnapshot.of(pokemons, validators, version, publishedAt, false);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return invalid(source, e.toString());
+        }
+    }
+
+    private static CatalogSnapshot invalid(String source, String reason) {
+        System.err.println("Ignoring catalog snapshot " + source + ": " + reason);
+        return null;
+    }
+}
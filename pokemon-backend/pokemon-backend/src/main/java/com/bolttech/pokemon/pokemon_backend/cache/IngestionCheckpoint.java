@@ -0,0 +1,73 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entries an ingestion run has already fetched, saved after every batch in the catalog snapshot format.
+ * A run that is interrupted (crash, restart, deploy) leaves the file behind and the next run skips those ids.
+ * The publish time field holds the start of the run the entries belong to, which bounds their age.
+ */
+@Component
+public class IngestionCheckpoint {
+
+    private final Path path;
+
+    private final Duration maxAge;
+
+    public IngestionCheckpoint(PokemonProperties properties) {
+        String file = properties.getIngestion().getCheckpointFile();
+        this.path = file == null || file.isBlank() ? null : Path.of(file);
+        this.maxAge = properties.getIngestion().getCheckpointMaxAge();
+    }
+
+    /**
+     * Progress of an unfinished run, or an empty snapshot when there is none (or it is too old)
+     */
+    public CatalogSnapshot resume() {
+        if (path == null) return CatalogSnapshot.empty();
+        CatalogSnapshot saved = CatalogSnapshotFile.load(path);
+        if (saved == null) return CatalogSnapshot.empty();
+        if (saved.getPublishedAt().plus(maxAge).isBefore(Instant.now())) {
+            clear();
+            return CatalogSnapshot.empty();
+        }
+        return saved;
+    }
+
+    /**
+     * Record everything fetched so far by the run that started at runStartedAt
+     */
+    public void save(List<Pokemon> fetched, Map<Integer, ResourceValidators> validators, Instant runStartedAt) {
+        if (path == null || fetched.isEmpty()) return;
+        try {
+            // Rewritten after every batch, so the entries are encoded as they are rather than indexed as a snapshot
+            CatalogSnapshotFile.save(path, CatalogSnapshotFile.encode(fetched, validators::get, 0, runStartedAt));
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error writing ingestion checkpoint to " + path + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * The run finished; the next one starts from scratch
+     */
+    public void clear() {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            System.err.println("Error removing ingestion checkpoint " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small in-process cache: bounded (least recently used entry evicted first) and with a per-entry TTL,
+ * which caps how long a missed invalidation can keep a stale value alive.
+ */
+public class LocalCache<K, V> {
+
+    private final int maxEntries;
+
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public LocalCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > LocalCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached value, or null if absent or expired
+     */
+    public V get(K key) {
+        V value;
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.storedAt() > ttlNanos) {
+                entries.remove(key);
+                entry = null;
+            }
+            value = entry == null ? null : entry.value();
+        }
+        (value == null ? misses : hits).increment();
+        return value;
+    }
+
+    public void put(K key, V value) {
+        if (maxEntries <= 0 || value == null) return;
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hits() { return hits.sum(); }
+
+    public long misses() { return misses.sum(); }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+}
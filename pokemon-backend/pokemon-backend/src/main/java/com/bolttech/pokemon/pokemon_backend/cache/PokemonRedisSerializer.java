@@ -0,0 +1,66 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties.ValueFormat;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary encoding for {@link Pokemon} Redis values.
+ * <pre>
+ *   version byte | varint id | name | types | frontImage | backImage | region | weaknesses
+ *   | resistances | immunities (V2 only)
+ * </pre>
+ * Field encoding is described in {@link BinaryCodec}. No field names and no type metadata.
+ * V1 values (without the type profile) are still read.
+ * Values that do not start with a known version byte are read as legacy JSON, so entries written by
+ * {@link GenericJackson2JsonRedisSerializer} stay readable during a rollout. Other value types are written as JSON.
+ */
+public class PokemonRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte V1 = 1;
+    static final byte V2 = 2;
+
+    private final RedisSerializer<Object> json;
+
+    private final boolean writeBinary;
+
+    public PokemonRedisSerializer() {
+        this(ValueFormat.BINARY);
+    }
+
+    /**
+     * @param format encoding for new values; JSON keeps writing the legacy format (e.g. to roll back) but still reads binary
+     */
+    public PokemonRedisSerializer(ValueFormat format) {
+        this.json = new GenericJackson2JsonRedisSerializer();
+        this.writeBinary = format == ValueFormat.BINARY;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (!writeBinary || !(value instanceof Pokemon pokemon)) return json.serialize(value);
+
+        BinaryCodec.Writer out = new BinaryCodec.Writer(128);
+        out.write(V2);
+        BinaryCodec.writePokemon(out, pokemon);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) return null;
+        // JSON never starts with a control byte, so anything else is a legacy entry
+        if (bytes[0] != V1 && bytes[0] != V2) return json.deserialize(bytes);
+
+        try {
+            return BinaryCodec.readPokemon(new BinaryCodec.Reader(ByteBuffer.wrap(bytes, 1, bytes.length - 1)), bytes[0] == V2);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new SerializationException("Truncated Pokemon value (" + bytes.length + " bytes)", e);
+        }
+    }
+}
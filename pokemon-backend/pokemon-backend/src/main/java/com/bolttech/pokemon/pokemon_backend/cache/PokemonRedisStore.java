@@ -0,0 +1,377 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Redis layout with one key per Pokémon plus a small ordered id index:
+ * <pre>
+ *   pokemon:entry:{id}  -> Pokemon
+ *   pokemon:index       -> "1,2,3,..." (ids in catalog order)
+ *   pokemon:version     -> generation counter, bumped on every write-through
+ *   pokemon:catalog     -> the whole catalog with its version and validators (snapshot file format)
+ * </pre>
+ * A detail read is one GET and a page read one MGET of just the ids on that page,
+ * so per-request cost does not grow with the catalog. Refreshes write through with pipelining.
+ * <p>
+ * Entries read from Redis (L2) are kept in a bounded in-process L1. Every write-through announces the
+ * new generation on {@value #INVALIDATION_CHANNEL}; other nodes drop their L1 and id index when they
+ * see it, and the L1 TTL bounds staleness if a message is missed. Newer generations are also announced
+ * in-process with a {@link SharedCatalogChangedEvent}, so the node can adopt the stored catalog.
+ * Concurrent L1 misses for the same entry share one Redis read.
+ * <p>
+ * {@code pokemon:catalog} duplicates the entries on purpose. It is only read when a node adopts a catalog
+ * another node built (once per refresh, never on the request path), and it carries what the entry keys do not:
+ * the catalog version and publish time every node reports, and the per-entry validators (ETag, Last-Modified,
+ * content hash) that keep the adopting node's own next refresh conditional. Rebuilding from the index and an
+ * MGET of every entry would move about the same bytes (~230 KB for the full dex) and lose those.
+ * Hit/miss counters and Redis load time are exported as metrics, read from the counters at scrape time.
+ */
+@Component
+public class PokemonRedisStore implements MessageListener, MeterBinder {
+
+    static final String ENTRY_PREFIX = "pokemon:entry:";
+    static final String INDEX_KEY = "pokemon:index";
+    static final String VERSION_KEY = "pokemon:version";
+    static final String CATALOG_KEY = "pokemon:catalog";
+    public static final String INVALIDATION_CHANNEL = "pokemon:invalidate";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final ApplicationEventPublisher events;
+
+    private final long indexTtlMillis;
+
+    // Id index cached locally so a page read is a single MGET
+    private volatile CachedIndex index = CachedIndex.EMPTY;
+
+    private final LocalCache<Integer, Pokemon> l1;
+
+    // L1 misses in flight per entry id
+    private final SingleFlight<Integer, Pokemon> reads;
+
+    private final LongAdder l2Hits = new LongAdder();
+
+    private final LongAdder l2Misses = new LongAdder();
+
+    // Redis round trips made for L1 misses (a GET or an MGET each) and their total time
+    private final LongAdder loads = new LongAdder();
+
+    private final LongAdder loadNanos = new LongAdder();
+
+    // Highest Redis generation this node has written or been told about
+    private final AtomicLong knownVersion = new AtomicLong();
+
+    // Bumped on every invalidation so reads that straddle one do not refill L1 with old values
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public PokemonRedisStore(RedisTemplate<String, Object> redisTemplate, PokemonProperties properties) {
+        this(redisTemplate, properties, event -> { });
+    }
+
+    @Autowired
+    public PokemonRedisStore(RedisTemplate<String, Object> redisTemplate, PokemonProperties properties,
+                             ApplicationEventPublisher events) {
+        PokemonProperties.Redis config = properties.getRedis();
+        this.redisTemplate = redisTemplate;
+        this.events = events;
+        this.indexTtlMillis = config.getIndexTtl().toMillis();
+        this.l1 = new LocalCache<>(config.getL1MaxEntries(), config.getL1Ttl().toMillis());
+        this.reads = new SingleFlight<>(config.getSingleFlightTimeout().toMillis());
+    }
+
+    /**
+     * Write every catalog this node built (not placeholders, not ones adopted from Redis) through to Redis
+     */
+    @EventListener
+    public void onCatalogPublished(CatalogPublishedEvent event) {
+        if (event.snapshot().isFallback() || event.adopted()) return;
+        try {
+            writeThrough(event.snapshot(), event.previous());
+        } catch (RuntimeException e) {
+            System.err.println("Error writing catalog to Redis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pipelined write of the entries that changed since previous, the id index, the whole catalog and a new
+     * generation, which is then broadcast to the other nodes. Entries that left the catalog are deleted.
+     */
+    @SuppressWarnings("unchecked")
+    public void writeThrough(CatalogSnapshot snapshot, CatalogSnapshot previous) {
+        RedisSerializer<Object> values = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        byte[] catalog = CatalogSnapshotFile.encode(snapshot);
+        int[] ids = snapshot.all().stream().mapToInt(Pokemon::getId).toArray();
+        int[] storedIds = readIndex();
+        int[] stored = storedIds.clone();
+        Arrays.sort(stored);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Pokemon p : snapshot.all()) {
+                // Unchanged entries (same object as last time, e.g. after a 304) are already stored
+                if (previous != null && previous.get(p.getId()) == p && contains(stored, p.getId())) continue;
+                connection.stringCommands().set(entryKey(p.getId()), values.serialize(p));
+            }
+            for (int id : storedIds) {
+                if (snapshot.get(id) == null) connection.keyCommands().del(entryKey(id));
+            }
+            connection.stringCommands().set(bytes(INDEX_KEY), encodeIndex(ids));
+            connection.stringCommands().set(bytes(CATALOG_KEY), catalog);
+            connection.stringCommands().incr(bytes(VERSION_KEY));
+            return null;
+        });
+
+        long version = (Long) results.get(results.size() - 1);
+        knownVersion.accumulateAndGet(version, Math::max);
+        invalidateLocal();
+        index = new CachedIndex(ids, System.currentTimeMillis());
+        redisTemplate.execute((RedisConnection connection) ->
+                connection.publish(bytes(INVALIDATION_CHANNEL), Long.toString(version).getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * Invalidation broadcast from a node that wrote a new generation
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        long version;
+        try {
+            version = Long.parseLong(new String(message.getBody(), StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring malformed cache invalidation: " + e.getMessage());
+            return;
+        }
+        // Our own broadcasts come back too; only newer generations invalidate
+        if (knownVersion.getAndAccumulate(version, Math::max) >= version) return;
+        invalidateLocal();
+        index = CachedIndex.EMPTY;
+        events.publishEvent(new SharedCatalogChangedEvent(version));
+    }
+
+    /**
+     * One page of the stored catalog: ids from the local index copy, entries from {@link #getAll}
+     */
+    public List<Pokemon> page(int page, int size) {
+        if (page < 0 || size <= 0) return List.of();
+        int[] ids = index().ids();
+        long from = (long) page * size;
+        if (from >= ids.length) return List.of();
+        int to = (int) Math.min(from + size, ids.length);
+
+        List<Pokemon> result = new ArrayList<>(to - (int) from);
+        for (Pokemon p : getAll(Arrays.copyOfRange(ids, (int) from, to))) {
+            if (p != null) result.add(p);
+        }
+        return result;
+    }
+
+    /**
+     * Entries for the given ids, in the same order and null where absent:
+     * from L1, and one MGET for whatever L1 is missing and no other request is already reading
+     */
+    public Pokemon[] getAll(int[] ids) {
+        Pokemon[] pokemons = new Pokemon[ids.length];
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            pokemons[i] = l1.get(ids[i]);
+            if (pokemons[i] == null) missing.add(ids[i]);
+        }
+        if (missing.isEmpty()) return pokemons;
+
+        Map<Integer, Pokemon> read = reads.executeAll(missing, this::multiGet);
+        for (int i = 0; i < ids.length; i++) {
+            if (pokemons[i] == null) pokemons[i] = read.get(ids[i]);
+        }
+        return pokemons;
+    }
+
+    private Map<Integer, Pokemon> multiGet(List<Integer> ids) {
+        long generation = invalidations.get();
+        List<String> keys = new ArrayList<>(ids.size());
+        for (int id : ids) keys.add(ENTRY_PREFIX + id);
+        long started = System.nanoTime();
+        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
+        recordLoad(started);
+        Map<Integer, Pokemon> read = new HashMap<>();
+        for (int k = 0; k < ids.size(); k++) {
+            read.put(ids.get(k), remember(values == null ? null : values.get(k), generation));
+        }
+        return read;
+    }
+
+    /**
+     * Entry from L1, else a single GET shared with concurrent readers of the same id; null if absent
+     */
+    public Pokemon get(int id) {
+        Pokemon cached = l1.get(id);
+        if (cached != null) return cached;
+        return reads.execute(id, () -> {
+            long generation = invalidations.get();
+            long started = System.nanoTime();
+            Object value = redisTemplate.opsForValue().get(ENTRY_PREFIX + id);
+            recordLoad(started);
+            return remember(value, generation);
+        });
+    }
+
+    /**
+     * The whole catalog last written through by any node, with its version and validators,
+     * or null if there is none (or it is unreadable). For adoption only; requests read the entry keys
+     */
+    public CatalogSnapshot readCatalog() {
+        byte[] raw = redisTemplate.execute((RedisConnection connection) -> connection.stringCommands().get(bytes(CATALOG_KEY)));
+        return raw == null ? null : CatalogSnapshotFile.decode(ByteBuffer.wrap(raw), CATALOG_KEY);
+    }
+
+    /**
+     * Generation of the stored catalog, 0 if nothing has been written
+     */
+    public long storedVersion() {
+        Long version = redisTemplate.execute((RedisCallback<Long>) connection -> {
+            byte[] raw = connection.stringCommands().get(bytes(VERSION_KEY));
+            return raw == null ? 0L : Long.parseLong(new String(raw, StandardCharsets.US_ASCII));
+        });
+        return version == null ? 0 : version;
+    }
+
+    public CacheStats stats() {
+        SingleFlight.Stats flights = reads.stats();
+        return new CacheStats(l1.hits(), l1.misses(), l1.size(), l2Hits.sum(), l2Misses.sum(), invalidations.get(),
+                flights.loads(), flights.coalesced(), flights.timeouts());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        gets(registry, "l1", "hit", l1, LocalCache::hits);
+        gets(registry, "l1", "miss", l1, LocalCache::misses);
+        gets(registry, "redis", "hit", l2Hits, LongAdder::sum);
+        gets(registry, "redis", "miss", l2Misses, LongAdder::sum);
+        Gauge.builder("pokemon.cache.size", l1, LocalCache::size)
+                .description("Entries held in the in-process L1").tag("tier", "l1").register(registry);
+        FunctionTimer.builder("pokemon.cache.loads", this, s -> s.loads.sum(), s -> s.loadNanos.sum(), TimeUnit.NANOSECONDS)
+                .description("Redis round trips for L1 misses (GET or MGET)").register(registry);
+        FunctionCounter.builder("pokemon.cache.coalesced", reads, r -> r.stats().coalesced())
+                .description("L1 misses that shared a concurrent read instead of reading Redis").register(registry);
+        FunctionCounter.builder("pokemon.cache.coalesce.timeouts", reads, r -> r.stats().timeouts())
+                .description("Reads that gave up waiting for a shared read").register(registry);
+        FunctionCounter.builder("pokemon.cache.invalidations", invalidations, AtomicLong::get)
+                .description("L1 flushes after a catalog write on any node").register(registry);
+    }
+
+    private static <T> void gets(MeterRegistry registry, String tier, String result, T source, ToDoubleFunction<T> count) {
+        FunctionCounter.builder("pokemon.cache.gets", source, count)
+                .description("Catalog entry reads by cache tier and result")
+                .tags("tier", tier, "result", result).register(registry);
+    }
+
+    private void recordLoad(long started) {
+        loadNanos.add(System.nanoTime() - started);
+        loads.increment();
+    }
+
+    private Pokemon remember(Object value, long generation) {
+        if (!(value instanceof Pokemon p)) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        if (invalidations.get() == generation) l1.put(p.getId(), p);
+        return p;
+    }
+
+    private void invalidateLocal() {
+        invalidations.incrementAndGet();
+        l1.clear();
+    }
+
+    private CachedIndex index() {
+        CachedIndex cached = index;
+        if (System.currentTimeMillis() - cached.loadedAt() < indexTtlMillis) return cached;
+        CachedIndex reloaded = new CachedIndex(readIndex(), System.currentTimeMillis());
+        index = reloaded;
+        return reloaded;
+    }
+
+    private int[] readIndex() {
+        byte[] raw = redisTemplate.execute((RedisConnection connection) -> connection.stringCommands().get(bytes(INDEX_KEY)));
+        return decodeIndex(raw);
+    }
+
+    static byte[] encodeIndex(int[] ids) {
+        StringBuilder sb = new StringBuilder(ids.length * 4);
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) sb.append(',');
+            sb.append(ids[i]);
+        }
+        return sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    static int[] decodeIndex(byte[] raw) {
+        if (raw == null || raw.length == 0) return new int[0];
+        return Arrays.stream(new String(raw, StandardCharsets.US_ASCII).split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+
+    private static boolean contains(int[] sortedIds, int id) {
+        return Arrays.binarySearch(sortedIds, id) >= 0;
+    }
+
+    private static byte[] entryKey(int id) {
+        return bytes(ENTRY_PREFIX + id);
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record CachedIndex(int[] ids, long loadedAt) {
+        static final CachedIndex EMPTY = new CachedIndex(new int[0], 0);
+    }
+
+    /**
+     * Per-tier hit/miss counters since startup.
+     *
+     * @param l1Hits           reads answered in-process
+     * @param l1Misses         reads not answered in-process
+     * @param l1Size           entries currently held in-process
+     * @param l2Hits           Redis reads that found the entry
+     * @param l2Misses         Redis reads that did not
+     * @param invalidations    L1 flushes (own write-throughs and broadcasts from other nodes)
+     * @param l2Reads          entries read from Redis after an L1 miss
+     * @param coalesced        L1 misses that shared a concurrent read of the same entry instead of reading Redis
+     * @param coalesceTimeouts reads that gave up waiting for a shared read
+     */
+    public record CacheStats(long l1Hits, long l1Misses, int l1Size, long l2Hits, long l2Misses, long invalidations,
+                             long l2Reads, long coalesced, long coalesceTimeouts) {
+    }
+}
@@ -0,0 +1,107 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Cluster-wide lease on the catalog refresh, so one replica rebuilds and the others adopt its result.
+ * <pre>
+ *   pokemon:refresh:lease -> id of the holding node, with a TTL
+ * </pre>
+ * The holder renews the lease while it works; a holder that crashes stops renewing and the lease lapses
+ * after {@code lease-ttl}. Renewing and releasing only act while this node still holds the lease.
+ * Releasing after a refresh attempt keeps the key for {@code cooldown}, so a failing upstream is not retried
+ * by every replica in turn.
+ */
+@Component
+public class RefreshLease {
+
+    static final String LEASE_KEY = "pokemon:refresh:lease";
+
+    // Extend (or shorten) the lease only if it is still ours
+    private static final byte[] EXPIRE_IF_HELD = ("if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "if tonumber(ARGV[2]) > 0 then return redis.call('pexpire', KEYS[1], ARGV[2]) end "
+            + "return redis.call('del', KEYS[1]) else return 0 end").getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String nodeId;
+
+    private final long ttlMillis;
+
+    private final long cooldownMillis;
+
+    public RefreshLease(RedisTemplate<String, Object> redisTemplate, PokemonProperties properties) {
+        PokemonProperties.Refresh config = properties.getRefresh();
+        this.redisTemplate = redisTemplate;
+        this.nodeId = nodeName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+        this.ttlMillis = config.getLeaseTtl().toMillis();
+        this.cooldownMillis = config.getCooldown().toMillis();
+    }
+
+    /**
+     * Take the lease if nobody holds it. Throws if Redis is unreachable.
+     */
+    public boolean tryAcquire() {
+        Boolean acquired = redisTemplate.execute((RedisConnection connection) -> connection.stringCommands()
+                .set(key(), id(), Expiration.milliseconds(ttlMillis), RedisStringCommands.SetOption.SET_IF_ABSENT));
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * Push the expiry out by a full TTL; false if the lease lapsed and may now belong to another node
+     */
+    public boolean renew() {
+        return expireIfHeld(ttlMillis);
+    }
+
+    /**
+     * Hand the lease back; after a refresh attempt it stays taken for the cooldown. Never throws.
+     */
+    public void release(boolean cooldown) {
+        try {
+            expireIfHeld(cooldown ? cooldownMillis : 0);
+        } catch (RuntimeException e) {
+            System.err.println("Could not release refresh lease, it lapses on its own: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Node currently holding the lease, or null
+     */
+    public String holder() {
+        byte[] raw = redisTemplate.execute((RedisConnection connection) -> connection.stringCommands().get(key()));
+        return raw == null ? null : new String(raw, StandardCharsets.UTF_8);
+    }
+
+    public String getNodeId() { return nodeId; }
+
+    private boolean expireIfHeld(long millis) {
+        Long result = redisTemplate.execute((RedisConnection connection) -> connection.scriptingCommands()
+                .eval(EXPIRE_IF_HELD, ReturnType.INTEGER, 1, key(), id(), Long.toString(millis).getBytes(StandardCharsets.US_ASCII)));
+        return result != null && result == 1;
+    }
+
+    private byte[] id() {
+        return nodeId.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] key() {
+        return LEASE_KEY.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Pod name in Kubernetes, else whatever the OS calls this host
+    private static String nodeName() {
+        String host = System.getenv("HOSTNAME");
+        if (host == null || host.isBlank()) host = System.getenv("COMPUTERNAME");
+        return host == null || host.isBlank() ? "node" : host;
+    }
+}
@@ -0,0 +1,9 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+/**
+ * Published when another node has written a newer catalog generation to Redis.
+ *
+ * @param generation the Redis generation announced on the invalidation channel
+ */
+public record SharedCatalogChangedEvent(long generation) {
+}
@@ -0,0 +1,127 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent reads of the same key: the first caller runs the load on its own thread,
+ * callers that arrive while it is in flight wait for that result instead of loading again.
+ * Nothing is remembered once a load finishes, so a failed key is simply loaded again by the next caller,
+ * and a failure only reaches the callers waiting on that key.
+ * Waiters give up after a bounded time with {@link SingleFlightTimeoutException}.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final long timeoutNanos;
+
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    /**
+     * Value for the key, loaded by this caller or by the caller already loading it
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalesced.increment();
+            return await(key, running, System.nanoTime() + timeoutNanos);
+        }
+
+        loads.increment();
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Values for several keys (null where the loader found none). Keys nobody is loading are loaded together
+     * in one call of the loader; keys already in flight are waited for.
+     */
+    public Map<K, V> executeAll(Collection<K> keys, Function<List<K>, Map<K, V>> loader) {
+        Map<K, CompletableFuture<V>> joined = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> led = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (joined.containsKey(key) || led.containsKey(key)) continue;
+            CompletableFuture<V> mine = new CompletableFuture<>();
+            CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+            if (running != null) joined.put(key, running);
+            else led.put(key, mine);
+        }
+
+        Map<K, V> values = new HashMap<>();
+        if (!led.isEmpty()) {
+            loads.add(led.size());
+            try {
+                Map<K, V> loaded = loader.apply(new ArrayList<>(led.keySet()));
+                led.forEach((key, future) -> {
+                    V value = loaded.get(key);
+                    values.put(key, value);
+                    future.complete(value);
+                });
+            } catch (RuntimeException e) {
+                led.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            } finally {
+                led.forEach(inFlight::remove);
+            }
+        }
+
+        coalesced.add(joined.size());
+        long deadline = System.nanoTime() + timeoutNanos;
+        joined.forEach((key, running) -> values.put(key, await(key, running, deadline)));
+        return values;
+    }
+
+    public Stats stats() {
+        return new Stats(loads.sum(), coalesced.sum(), timeouts.sum());
+    }
+
+    private V await(K key, CompletableFuture<V> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new SingleFlightTimeoutException(key, TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the in-flight read of " + key, e);
+        }
+    }
+
+    /**
+     * @param loads     keys actually loaded
+     * @param coalesced reads that shared another caller's in-flight load instead of loading
+     * @param timeouts  waiters that gave up before the shared load finished
+     */
+    public record Stats(long loads, long coalesced, long timeouts) {
+    }
+}
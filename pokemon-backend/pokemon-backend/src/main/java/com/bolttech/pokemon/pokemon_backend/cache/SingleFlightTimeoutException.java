@@ -0,0 +1,11 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+/**
+ * Thrown to a caller that waited too long for another caller's read of the same key.
+ */
+public class SingleFlightTimeoutException extends RuntimeException {
+
+    public SingleFlightTimeoutException(Object key, long waitedMillis) {
+        super("Gave up waiting for the in-flight read of " + key + " after " + waitedMillis + " ms");
+    }
+}
@@ -0,0 +1,14 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch lookup.
+ *
+ * @param pokemons entries found, in the order their ids were requested
+ * @param missing  requested ids with no entry, in request order
+ */
+public record BatchResult(List<Pokemon> pokemons, List<Integer> missing) {
+}
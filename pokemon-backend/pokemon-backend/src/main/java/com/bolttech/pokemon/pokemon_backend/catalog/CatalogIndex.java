@@ -0,0 +1,176 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.type.Matchup;
+import com.bolttech.pokemon.pokemon_backend.type.TypeChart;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Inverted indexes from type and weakness to the positions of matching entries in a snapshot's
+ * id-ordered array, one bitset per value. A filter is answered with word-wise OR/AND over those bitsets,
+ * and a page is cut from the result by popcount, so the cost depends on the catalog size in words (~16 for
+ * the whole National Dex) rather than on the number of entries inspected.
+ * Also keeps each entry's defending type combination for matchup scoring.
+ */
+final class CatalogIndex {
+
+    private static final CatalogIndex EMPTY = new CatalogIndex(0, Map.of(), Map.of(), new int[0]);
+
+    // Number of indexed positions
+    private final int size;
+
+    private final Map<String, long[]> byType;
+
+    private final Map<String, long[]> byWeakness;
+
+    // TypeChart combination per position
+    private final int[] combos;
+
+    private CatalogIndex(int size, Map<String, long[]> byType, Map<String, long[]> byWeakness, int[] combos) {
+        this.size = size;
+        this.byType = byType;
+        this.byWeakness = byWeakness;
+        this.combos = combos;
+    }
+
+    static CatalogIndex build(Pokemon[] ordered) {
+        if (ordered.length == 0) return EMPTY;
+        Map<String, long[]> byType = new HashMap<>();
+        Map<String, long[]> byWeakness = new HashMap<>();
+        int[] combos = new int[ordered.length];
+        int words = words(ordered.length);
+        for (int position = 0; position < ordered.length; position++) {
+            set(byType, ordered[position].getTypes(), position, words);
+            set(byWeakness, ordered[position].getWeaknesses(), position, words);
+            combos[position] = TypeChart.combo(ordered[position].getTypes());
+        }
+        return new CatalogIndex(ordered.length, Map.copyOf(byType), Map.copyOf(byWeakness), combos);
+    }
+
+    /**
+     * Positions matching the filter, as a bitset over the ordered array
+     */
+    long[] select(PokemonFilter filter) {
+        long[] selected = new long[words(size)];
+        // Start from "everything" and narrow down with each attribute
+        Arrays.fill(selected, -1L);
+        clearTail(selected);
+        and(selected, anyOf(byType, filter.types()));
+        and(selected, anyOf(byWeakness, filter.weakTo()));
+        return selected;
+    }
+
+    /**
+     * Defenders ranked by the best multiplier any of the attack types (ordinals) gets against them, then by id.
+     * Multipliers take only {@link TypeChart#LEVEL_COUNT} values, so ranking is one scan per level from the top
+     * instead of a sort, and nothing but the result list is allocated.
+     */
+    List<Matchup> matchups(Pokemon[] ordered, int[] attackTypes, int limit) {
+        List<Matchup> result = new ArrayList<>(Math.min(Math.max(limit, 0), size));
+        for (int level = TypeChart.LEVEL_COUNT - 1; level >= 0 && result.size() < limit; level--) {
+            for (int position = 0; position < size && result.size() < limit; position++) {
+                if (bestLevel(attackTypes, combos[position]) != level) continue;
+                Pokemon defender = ordered[position];
+                result.add(new Matchup(defender.getId(), defender.getName(), defender.getTypes(), TypeChart.multiplierAt(level)));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static int bestLevel(int[] attackTypes, int combo) {
+        int best = 0;
+        for (int attack : attackTypes) best = Math.max(best, TypeChart.level(attack, combo));
+        return best;
+    }
+
+    static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) count += Long.bitCount(word);
+        return count;
+    }
+
+    /**
+     * The entries of page {@code page} (of {@code pageSize}) among the selected positions
+     */
+    static List<Pokemon> page(long[] bits, Pokemon[] ordered, int page, int pageSize) {
+        if (page < 0 || pageSize <= 0) return List.of();
+        long skip = (long) page * pageSize;
+
+        // Skip whole words by popcount, then walk bits inside the word where the page starts
+        int word = 0;
+        while (word < bits.length && Long.bitCount(bits[word]) <= skip) {
+            skip -= Long.bitCount(bits[word]);
+            word++;
+        }
+        if (word == bits.length) return List.of();
+
+        long current = bits[word];
+        for (long i = 0; i < skip; i++) current &= current - 1;
+        return collect(bits, ordered, word, current, pageSize);
+    }
+
+    /**
+     * Up to limit selected entries at or after the given position, for keyset paging
+     */
+    static List<Pokemon> from(long[] bits, Pokemon[] ordered, int position, int limit) {
+        int word = position >>> 6;
+        if (limit <= 0 || word >= bits.length) return List.of();
+        return collect(bits, ordered, word, bits[word] & (-1L << (position & 63)), limit);
+    }
+
+    // Walk the set bits from the given word on, starting with what is left of it in current
+    private static List<Pokemon> collect(long[] bits, Pokemon[] ordered, int word, long current, int limit) {
+        List<Pokemon> result = new ArrayList<>(Math.min(limit, 64));
+        while (true) {
+            while (current != 0 && result.size() < limit) {
+                result.add(ordered[(word << 6) + Long.numberOfTrailingZeros(current)]);
+                current &= current - 1;
+            }
+            if (result.size() == limit || ++word == bits.length) break;
+            current = bits[word];
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    // OR of the bitsets of the given values; null when the attribute is not filtered on
+    private long[] anyOf(Map<String, long[]> index, List<String> values) {
+        if (values.isEmpty()) return null;
+        long[] union = new long[words(size)];
+        for (String value : values) {
+            long[] bits = index.get(value);
+            if (bits == null) continue;
+            for (int i = 0; i < union.length; i++) union[i] |= bits[i];
+        }
+        return union;
+    }
+
+    private static void and(long[] target, long[] other) {
+        if (other == null) return;
+        for (int i = 0; i < target.length; i++) target[i] &= other[i];
+    }
+
+    private void clearTail(long[] bits) {
+        int tail = size & 63;
+        if (tail != 0) bits[bits.length - 1] &= (1L << tail) - 1;
+    }
+
+    private static void set(Map<String, long[]> index, List<String> values, int position, int words) {
+        if (values == null) return;
+        for (String value : values) {
+            if (value == null) continue;
+            long[] bits = index.computeIfAbsent(value.toLowerCase(Locale.ROOT), v -> new long[words]);
+            bits[position >> 6] |= 1L << position;
+        }
+    }
+
+    private static int words(int size) {
+        return (size + 63) >> 6;
+    }
+}
@@ -0,0 +1,15 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+/**
+ * Published after a new catalog snapshot becomes visible to readers.
+ *
+ * @param snapshot the snapshot now being served
+ * @param previous the snapshot it replaced
+ * @param adopted  true if another node built it and this node only picked it up (it is already in Redis)
+ */
+public record CatalogPublishedEvent(CatalogSnapshot snapshot, CatalogSnapshot previous, boolean adopted) {
+
+    public CatalogPublishedEvent(CatalogSnapshot snapshot, CatalogSnapshot previous) {
+        this(snapshot, previous, false);
+    }
+}
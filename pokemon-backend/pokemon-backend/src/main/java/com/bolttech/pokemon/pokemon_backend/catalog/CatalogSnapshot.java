@@ -0,0 +1,211 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.type.Matchup;
+import com.bolttech.pokemon.pokemon_backend.type.PokemonType;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable, id-indexed view of one ingested Pokémon catalog.
+ * Pages are served as slices of the ordered list (by offset, or by keyset after an id) and lookups by id are O(1).
+ * Type/weakness filters and name search are answered from indexes built once with the snapshot.
+ */
+public final class CatalogSnapshot {
+
+    private static final CatalogSnapshot EMPTY =
+            new CatalogSnapshot(0, Instant.EPOCH, false, new Pokemon[0], new Pokemon[0], new ResourceValidators[0]);
+
+    // Publish counter; restored and adopted snapshots keep the version they were published with (possibly on
+    // another node) and this node's next publish goes above it. 0 means nothing has been published yet
+    private final long version;
+
+    private final Instant publishedAt;
+
+    // True when built from placeholder data because nothing real could be ingested
+    private final boolean fallback;
+
+    // Sorted by id, used for paging
+    private final Pokemon[] ordered;
+
+    // byId[id] -> Pokemon (null for gaps in the id range)
+    private final Pokemon[] byId;
+
+    // Upstream validators stored next to each entry, same indexing as byId
+    private final ResourceValidators[] validatorsById;
+
+    private final List<Pokemon> orderedView;
+
+    private final CatalogIndex index;
+
+    private final NameSearchIndex names;
+
+    private CatalogSnapshot(long version, Instant publishedAt, boolean fallback,
+                            Pokemon[] ordered, Pokemon[] byId, ResourceValidators[] validatorsById) {
+        this.version = version;
+        this.publishedAt = publishedAt;
+        this.fallback = fallback;
+        this.ordered = ordered;
+        this.byId = byId;
+        this.validatorsById = validatorsById;
+        this.orderedView = Collections.unmodifiableList(Arrays.asList(ordered));
+        this.index = CatalogIndex.build(ordered);
+        this.names = NameSearchIndex.build(ordered);
+    }
+
+    public static CatalogSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build a snapshot from ingested Pokémon, ordered by id. Later duplicates of an id win.
+     */
+    public static CatalogSnapshot of(List<Pokemon> pokemons) {
+        return of(pokemons, Map.of(), 0, Instant.now(), false);
+    }
+
+    public static CatalogSnapshot of(List<Pokemon> pokemons, Map<Integer, ResourceValidators> validators,
+                                     long version, Instant publishedAt, boolean fallback) {
+        if (pokemons == null || pokemons.isEmpty()) return EMPTY;
+
+        int maxId = 0;
+        for (Pokemon p : pokemons) {
+            if (p.getId() < 0) throw new IllegalArgumentException("Negative Pokemon id: " + p.getId());
+            maxId = Math.max(maxId, p.getId());
+        }
+
+        Pokemon[] byId = new Pokemon[maxId + 1];
+        ResourceValidators[] validatorsById = new ResourceValidators[maxId + 1];
+        for (Pokemon p : pokemons) {
+            byId[p.getId()] = p;
+            validatorsById[p.getId()] = validators.get(p.getId());
+        }
+
+        // byId is already in id order, so dropping the gaps gives the paging order
+        Pokemon[] ordered = Arrays.stream(byId)
+                .filter(Objects::nonNull)
+                .toArray(Pokemon[]::new);
+
+        return new CatalogSnapshot(version, publishedAt, fallback, ordered, byId, validatorsById);
+    }
+
+    /**
+     * Pokémon with the given id, or null if the snapshot has none.
+     */
+    public Pokemon get(int id) {
+        if (id < 0 || id >= byId.length) return null;
+        return byId[id];
+    }
+
+    /**
+     * Upstream validators stored with the entry for id, or null if there are none.
+     */
+    public ResourceValidators validators(int id) {
+        if (id < 0 || id >= validatorsById.length) return null;
+        return validatorsById[id];
+    }
+
+    /**
+     * Slice of the ordered catalog for offset paging. Returns an empty list past the end.
+     */
+    public List<Pokemon> page(int page, int size) {
+        if (page < 0 || size <= 0) return List.of();
+        long from = (long) page * size;
+        if (from >= ordered.length) return List.of();
+        int to = (int) Math.min(from + size, ordered.length);
+        return orderedView.subList((int) from, to);
+    }
+
+    /**
+     * Page of the Pokémon matching the filter, in id order; filtering happens before paging.
+     */
+    public List<Pokemon> page(PokemonFilter filter, int page, int size) {
+        if (filter.isEmpty()) return page(page, size);
+        return CatalogIndex.page(index.select(filter), ordered, page, size);
+    }
+
+    /**
+     * Up to limit Pokémon matching the filter with an id above afterId, in id order (keyset paging).
+     * Stable across snapshots: entries present in both are never repeated or skipped.
+     */
+    public List<Pokemon> after(PokemonFilter filter, int afterId, int limit) {
+        if (limit <= 0) return List.of();
+        int from = firstAfter(afterId);
+        if (filter.isEmpty()) return orderedView.subList(from, (int) Math.min((long) from + limit, ordered.length));
+        return CatalogIndex.from(index.select(filter), ordered, from, limit);
+    }
+
+    // Position of the first entry with an id above the given one (binary search on the sorted ids)
+    private int firstAfter(int id) {
+        int low = 0;
+        int high = ordered.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ordered[mid].getId() <= id) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * Number of Pokémon matching the filter.
+     */
+    public int count(PokemonFilter filter) {
+        return filter.isEmpty() ? ordered.length : CatalogIndex.count(index.select(filter));
+    }
+
+    /**
+     * Up to limit Pokémon whose name matches the query (prefix or close typo), best match first.
+     */
+    public List<Pokemon> search(String query, int limit) {
+        return names.search(query, limit);
+    }
+
+    /**
+     * Up to limit defenders from this catalog, ranked by how hard the attacking types hit them
+     * (best multiplier among those types, highest first, then by id). Unknown type names are ignored.
+     */
+    public List<Matchup> matchups(List<String> attackTypes, int limit) {
+        int[] attacks = attackTypes.stream()
+                .map(PokemonType::fromName)
+                .filter(Objects::nonNull)
+                .mapToInt(PokemonType::ordinal)
+                .distinct()
+                .toArray();
+        if (attacks.length == 0 || limit <= 0) return List.of();
+        return index.matchups(ordered, attacks, limit);
+    }
+
+    /**
+     * All Pokémon in id order (read-only).
+     */
+    public List<Pokemon> all() {
+        return orderedView;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    public int size() {
+        return ordered.length;
+    }
+
+    public boolean isEmpty() {
+        return ordered.length == 0;
+    }
+}
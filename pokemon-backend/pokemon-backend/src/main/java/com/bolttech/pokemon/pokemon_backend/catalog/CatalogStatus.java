@@ -0,0 +1,25 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+/**
+ * Published catalog version and freshness, for staleness alerting.
+ *
+ * @param version            version of the snapshot being served (0 = nothing published yet)
+ * @param size               number of Pokémon in the served snapshot
+ * @param publishedAtEpochMs when the served snapshot was published
+ * @param ageSeconds         seconds since the served snapshot was published
+ * @param fallback           true while serving placeholder data
+ * @param refreshing         true while a background rebuild is running
+ * @param lastRefreshEpochMs when the last rebuild finished (0 = never)
+ * @param lastRefreshOutcome what the last rebuild did (published, kept previous, ...)
+ * @param lastIngestion      updated/unchanged/failed counts and wall-clock time of the last upstream run
+ */
+public record CatalogStatus(long version,
+                            int size,
+                            long publishedAtEpochMs,
+                            long ageSeconds,
+                            boolean fallback,
+                            boolean refreshing,
+                            long lastRefreshEpochMs,
+                            String lastRefreshOutcome,
+                            IngestionReport lastIngestion) {
+}
@@ -0,0 +1,14 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+
+import java.util.List;
+
+/**
+ * One page of a cursor-paged listing.
+ *
+ * @param pokemons entries in id order
+ * @param next     token for the following page, null on the last page
+ */
+public record CursorPage(List<Pokemon> pokemons, String next) {
+}
@@ -0,0 +1,10 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+/**
+ * One id an ingestion run could not fetch, and why.
+ *
+ * @param id     Pokemon id
+ * @param reason upstream error, timeout or open circuit
+ */
+public record IngestionFailure(int id, String reason) {
+}
@@ -0,0 +1,41 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import java.util.List;
+
+/**
+ * What one upstream ingestion run did.
+ *
+ * @param requested  ids requested from upstream
+ * @param updated    entries that changed (new payload parsed)
+ * @param unchanged  entries confirmed unchanged (304 or identical body)
+ * @param resumed    entries taken from the checkpoint of an interrupted run instead of being fetched again
+ * @param failed     entries that could not be fetched this run
+ * @param timedOut   the failed entries whose call ran out of time (upstream or ingestion call timeout)
+ * @param durationMillis wall-clock time of the run
+ * @param failures   the failed ids with their reason, at most {@link #MAX_LISTED_FAILURES} of them
+ */
+public record IngestionReport(int requested, int updated, int unchanged, int resumed, int failed, int timedOut,
+                              long durationMillis, List<IngestionFailure> failures) {
+
+    // Enough to diagnose a run without a full outage turning the report into 1000 lines
+    public static final int MAX_LISTED_FAILURES = 100;
+
+    public static final IngestionReport NONE = new IngestionReport(0, 0, 0, 0, 0, 0, 0, List.of());
+
+    public IngestionReport {
+        failures = List.copyOf(failures.size() > MAX_LISTED_FAILURES ? failures.subList(0, MAX_LISTED_FAILURES) : failures);
+    }
+
+    /**
+     * Entries upstream vouched for during this run (or the interrupted run it resumed), changed or not
+     */
+    public int fresh() {
+        return updated + unchanged + resumed;
+    }
+
+    @Override
+    public String toString() {
+        return requested + " requested: " + updated + " updated, " + unchanged + " unchanged, "
+                + resumed + " resumed, " + failed + " failed (" + timedOut + " timed out) in " + durationMillis + " ms";
+    }
+}
@@ -0,0 +1,194 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Name search over one snapshot: a prefix trie for autocomplete and a trigram index for typos.
+ * Built once with the snapshot, so queries only walk precomputed structures.
+ * <p>
+ * Ranking: exact name, then names starting with the query (shorter first), then names within a small
+ * edit distance of the query or of one of their prefixes (closest first). Ties go to the lower id.
+ * Names are compared lowercase with punctuation and spaces dropped, so "mr mime" finds "Mr-mime".
+ */
+final class NameSearchIndex {
+
+    private static final NameSearchIndex EMPTY = new NameSearchIndex(new Pokemon[0], new String[0], new Node(), Map.of());
+
+    private static final int GRAM = 3;
+
+    private final Pokemon[] ordered;
+
+    // Normalized name per position in ordered
+    private final String[] keys;
+
+    private final Node root;
+
+    // Trigram of "^name$" -> positions containing it, ascending
+    private final Map<String, int[]> grams;
+
+    private NameSearchIndex(Pokemon[] ordered, String[] keys, Node root, Map<String, int[]> grams) {
+        this.ordered = ordered;
+        this.keys = keys;
+        this.root = root;
+        this.grams = grams;
+    }
+
+    static NameSearchIndex build(Pokemon[] ordered) {
+        if (ordered.length == 0) return EMPTY;
+        String[] keys = new String[ordered.length];
+        Node root = new Node();
+        Map<String, List<Integer>> gramLists = new HashMap<>();
+
+        for (int position = 0; position < ordered.length; position++) {
+            String key = normalize(ordered[position].getName());
+            keys[position] = key;
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+                node.building.add(position);
+            }
+            String padded = "^" + key + "$";
+            for (int i = 0; i + GRAM <= padded.length(); i++) {
+                List<Integer> positions = gramLists.computeIfAbsent(padded.substring(i, i + GRAM), g -> new ArrayList<>());
+                // The same trigram twice in one name still counts once
+                if (positions.isEmpty() || positions.get(positions.size() - 1) != position) positions.add(position);
+            }
+        }
+
+        Comparator<Integer> byRank = Comparator.<Integer>comparingInt(p -> keys[p].length()).thenComparingInt(p -> p);
+        root.freeze(byRank);
+        Map<String, int[]> grams = new HashMap<>();
+        gramLists.forEach((gram, positions) -> grams.put(gram, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return new NameSearchIndex(ordered, keys, root, grams);
+    }
+
+    /**
+     * Up to limit Pokémon matching the query, best match first
+     */
+    List<Pokemon> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0 || ordered.length == 0) return List.of();
+
+        List<Pokemon> result = new ArrayList<>(Math.min(limit, ordered.length));
+        boolean[] taken = new boolean[ordered.length];
+
+        // Exact and prefix matches, already ranked in the trie
+        Node node = root;
+        for (int i = 0; i < q.length() && node != null; i++) node = node.children.get(q.charAt(i));
+        if (node != null) {
+            for (int position : node.ranked) {
+                if (result.size() == limit) return result;
+                result.add(ordered[position]);
+                taken[position] = true;
+            }
+        }
+
+        int maxEdits = maxEdits(q);
+        if (result.size() < limit && maxEdits > 0) {
+            for (int[] match : fuzzyMatches(q, maxEdits, taken)) {
+                if (result.size() == limit) break;
+                result.add(ordered[match[2]]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Candidates sharing enough trigrams with "^query", verified by edit distance.
+     * Each match is {prefix distance, full distance, position}, sorted best first.
+     */
+    private List<int[]> fuzzyMatches(String q, int maxEdits, boolean[] taken) {
+        // Only the leading pad: the query may be an unfinished name
+        String padded = "^" + q;
+        int queryGrams = Math.max(0, padded.length() - GRAM + 1);
+        // One edit breaks at most GRAM trigrams
+        int minShared = Math.max(1, queryGrams - GRAM * maxEdits);
+
+        int[] shared = new int[ordered.length];
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            int[] positions = grams.get(padded.substring(i, i + GRAM));
+            if (positions == null) continue;
+            for (int position : positions) shared[position]++;
+        }
+
+        List<int[]> matches = new ArrayList<>();
+        for (int position = 0; position < shared.length; position++) {
+            if (taken[position] || shared[position] < minShared) continue;
+            // Too short for any of its prefixes to be within reach
+            if (keys[position].length() < q.length() - maxEdits) continue;
+            int[] distance = distance(q, keys[position], maxEdits);
+            if (distance != null) matches.add(new int[]{distance[0], distance[1], position});
+        }
+        matches.sort(Comparator.<int[]>comparingInt(m -> m[0]).thenComparingInt(m -> m[1]).thenComparingInt(m -> m[2]));
+        return matches;
+    }
+
+    /**
+     * Levenshtein distance of the query to the closest prefix of name and to the whole name,
+     * or null once every alignment is over maxEdits
+     */
+    static int[] distance(String query, String name, int maxEdits) {
+        int[] previous = new int[name.length() + 1];
+        int[] current = new int[name.length() + 1];
+        for (int j = 0; j <= name.length(); j++) previous[j] = j;
+
+        for (int i = 1; i <= query.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            char qc = query.charAt(i - 1);
+            for (int j = 1; j <= name.length(); j++) {
+                int substitute = previous[j - 1] + (qc == name.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitute, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) return null;
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        int prefix = Integer.MAX_VALUE;
+        for (int d : previous) prefix = Math.min(prefix, d);
+        return prefix > maxEdits ? null : new int[]{prefix, previous[name.length()]};
+    }
+
+    // Short queries are mostly unfinished prefixes; allow more typos as they grow
+    private static int maxEdits(String q) {
+        if (q.length() < 3) return 0;
+        return q.length() < 6 ? 1 : 2;
+    }
+
+    static String normalize(String name) {
+        if (name == null) return "";
+        StringBuilder key = new StringBuilder(name.length());
+        for (char c : name.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) key.append(c);
+        }
+        return key.toString();
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+
+        // Positions of every name under this node, best ranked first
+        private int[] ranked = new int[0];
+
+        private List<Integer> building = new ArrayList<>();
+
+        private void freeze(Comparator<Integer> byRank) {
+            building.sort(byRank);
+            ranked = building.stream().mapToInt(Integer::intValue).toArray();
+            building = Collections.emptyList();
+            children.values().forEach(child -> child.freeze(byRank));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Keyset position for cursor paging: the catalog version a page was cut from and the last id on it.
+ * Clients get it as an opaque URL-safe token and send it back to fetch the next page.
+ *
+ * @param version catalog version the previous page came from
+ * @param afterId the next page starts after this id
+ */
+public record PageCursor(long version, int afterId) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES).putLong(version).putInt(afterId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static PageCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(token);
+        }
+        if (bytes.length != ENCODED_BYTES) throw new InvalidCursorException(token);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        PageCursor cursor = new PageCursor(buffer.getLong(), buffer.getInt());
+        if (cursor.version < 0 || cursor.afterId < 0) throw new InvalidCursorException(token);
+        return cursor;
+    }
+}
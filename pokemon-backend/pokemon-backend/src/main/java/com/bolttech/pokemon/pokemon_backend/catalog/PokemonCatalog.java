@@ -0,0 +1,128 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the currently published catalog snapshot.
+ * Readers always see a complete snapshot; refreshes swap it atomically
+ * and announce it with a {@link CatalogPublishedEvent}. Nodes that did not run the refresh
+ * {@link #adopt adopt} the snapshot the refreshing node shared.
+ * Size, version and age of the served snapshot are exported as gauges.
+ */
+@Component
+public class PokemonCatalog implements MeterBinder {
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>(CatalogSnapshot.empty());
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private final ApplicationEventPublisher events;
+
+    public PokemonCatalog() {
+        this(event -> { });
+    }
+
+    @Autowired
+    public PokemonCatalog(ApplicationEventPublisher events) {
+        this.events = events;
+    }
+
+    public CatalogSnapshot current() {
+        return current.get();
+    }
+
+    /**
+     * Build a new snapshot from the ingested Pokémon and make it visible to readers.
+     */
+    public CatalogSnapshot publish(List<Pokemon> pokemons) {
+        return publish(pokemons, Map.of(), false);
+    }
+
+    /**
+     * Publish ingested Pokémon together with the upstream validators used for the next conditional refresh.
+     */
+    public CatalogSnapshot publish(List<Pokemon> pokemons, Map<Integer, ResourceValidators> validators) {
+        return publish(pokemons, validators, false);
+    }
+
+    /**
+     * Publish placeholder data. Any later real ingestion replaces it regardless of completeness.
+     */
+    public CatalogSnapshot publishFallback(List<Pokemon> pokemons) {
+        return publish(pokemons, Map.of(), true);
+    }
+
+    private CatalogSnapshot publish(List<Pokemon> pokemons, Map<Integer, ResourceValidators> validators, boolean fallback) {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(pokemons, validators, versions.incrementAndGet(), Instant.now(), fallback);
+        CatalogSnapshot previous = current.getAndSet(snapshot);
+        events.publishEvent(new CatalogPublishedEvent(snapshot, previous));
+        return snapshot;
+    }
+
+    /**
+     * Serve a catalog saved by an earlier run until the first publish. Only applies while nothing is published,
+     * keeps its version and publish time, and is not announced (it is already stored everywhere it would go).
+     */
+    public boolean restore(CatalogSnapshot snapshot) {
+        if (snapshot.isEmpty() || !current.compareAndSet(CatalogSnapshot.empty(), snapshot)) return false;
+        versions.accumulateAndGet(snapshot.getVersion(), Math::max);
+        return true;
+    }
+
+    /**
+     * Serve a catalog another node built and published. Replaces the current snapshot only if it is newer,
+     * or if this node has nothing real yet; keeps its version and publish time so every node reports the same.
+     */
+    public boolean adopt(CatalogSnapshot snapshot) {
+        if (snapshot.isEmpty()) return false;
+        while (true) {
+            CatalogSnapshot previous = current.get();
+            boolean placeholder = previous.isEmpty() || previous.isFallback();
+            if (!placeholder && previous.getVersion() >= snapshot.getVersion()) return false;
+            if (current.compareAndSet(previous, snapshot)) {
+                // Versions this node publishes later stay above the adopted one
+                versions.accumulateAndGet(snapshot.getVersion(), Math::max);
+                events.publishEvent(new CatalogPublishedEvent(snapshot, previous, true));
+                return true;
+            }
+        }
+    }
+
+    public boolean isLoaded() {
+        return !current.get().isEmpty();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("pokemon.catalog.size", this, c -> c.current().size())
+                .description("Pokemon in the served catalog").register(registry);
+        Gauge.builder("pokemon.catalog.version", this, c -> c.current().getVersion())
+                .description("Version of the served catalog").register(registry);
+        Gauge.builder("pokemon.catalog.fallback", this, c -> c.current().isFallback() ? 1 : 0)
+                .description("1 while placeholder data is served").register(registry);
+        TimeGauge.builder("pokemon.catalog.age", this, TimeUnit.MILLISECONDS, PokemonCatalog::ageMillis)
+                .description("Time since the served catalog was published").register(registry);
+    }
+
+    // 0 until something is published
+    private double ageMillis() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot.getVersion() == 0) return 0;
+        return System.currentTimeMillis() - snapshot.getPublishedAt().toEpochMilli();
+    }
+}
@@ -0,0 +1,37 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Type/weakness filter for catalog pages. Values of one attribute are OR-ed, the attributes are AND-ed:
+ * {@code types=[fire, grass], weakTo=[water]} matches fire or grass Pokémon that are weak to water.
+ * Matching is case-insensitive; an empty list does not restrict that attribute.
+ *
+ * @param types  Pokémon types to match
+ * @param weakTo weaknesses to match
+ */
+public record PokemonFilter(List<String> types, List<String> weakTo) {
+
+    public static final PokemonFilter NONE = new PokemonFilter(List.of(), List.of());
+
+    public PokemonFilter {
+        types = normalize(types);
+        weakTo = normalize(weakTo);
+    }
+
+    public boolean isEmpty() {
+        return types.isEmpty() && weakTo.isEmpty();
+    }
+
+    private static List<String> normalize(List<String> values) {
+        if (values == null) return List.of();
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
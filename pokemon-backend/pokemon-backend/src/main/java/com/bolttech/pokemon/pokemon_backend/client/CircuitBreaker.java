@@ -0,0 +1,73 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import java.time.Duration;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} upstream failures in a row it opens and
+ * rejects calls for {@code openDuration}; then a single trial call is let through (half-open), which closes
+ * the circuit on success or reopens it on failure.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+
+    private int consecutiveFailures;
+
+    private long openedAt;
+
+    private boolean trialInFlight;
+
+    /**
+     * @param failureThreshold consecutive failures that open the circuit; 0 or less disables the breaker
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Let a call through or throw {@link CircuitOpenException}
+     */
+    public synchronized void acquirePermission() {
+        if (failureThreshold <= 0 || state == State.CLOSED) return;
+        long remaining = openNanos - (System.nanoTime() - openedAt);
+        if (state == State.OPEN && remaining > 0) throw new CircuitOpenException(remaining / 1_000_000);
+        // Open period is over: exactly one trial call at a time
+        if (trialInFlight) throw new CircuitOpenException(0);
+        state = State.HALF_OPEN;
+        trialInFlight = true;
+    }
+
+    public synchronized void onSuccess() {
+        consecutiveFailures = 0;
+        trialInFlight = false;
+        state = State.CLOSED;
+    }
+
+    /**
+     * The call was cancelled or interrupted before upstream answered: frees the trial slot without changing state
+     */
+    public synchronized void onAbandoned() {
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        trialInFlight = false;
+        consecutiveFailures++;
+        if (failureThreshold > 0 && (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold)) {
+            if (state != State.OPEN) System.err.println("PokeAPI circuit opened after " + consecutiveFailures + " consecutive failures");
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+/**
+ * Thrown instead of calling PokeAPI while the circuit breaker is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    public CircuitOpenException(long retryInMillis) {
+        super("Circuit open, PokeAPI calls suspended for another " + retryInMillis + " ms");
+    }
+}
@@ -0,0 +1,19 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+/**
+ * Outcome of a (possibly conditional) upstream fetch.
+ *
+ * @param payload     extracted fields, null when not modified
+ * @param validators  validators to store with the entry
+ * @param notModified true on 304, or when the body hashes the same as last time
+ */
+public record FetchResult(PokemonPayload payload, ResourceValidators validators, boolean notModified) {
+
+    static FetchResult modified(PokemonPayload payload, ResourceValidators validators) {
+        return new FetchResult(payload, validators, false);
+    }
+
+    static FetchResult notModified(ResourceValidators validators) {
+        return new FetchResult(null, validators, true);
+    }
+}
@@ -0,0 +1,12 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import java.util.List;
+
+/**
+ * What we keep from a PokeAPI /generation/{id} payload.
+ *
+ * @param region     main_region.name (lowercase), may be null
+ * @param speciesIds ids of the species introduced in this generation
+ */
+public record GenerationPayload(String region, List<Integer> speciesIds) {
+}
@@ -0,0 +1,184 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Upstream client for PokeAPI.
+ */
+@Component
+public class PokeApiClient {
+
+    private final RestTemplate restTemplate;
+
+    private final PokemonPayloadExtractor payloadExtractor;
+
+    private final UpstreamClientStats stats;
+
+    private final String baseUrl;
+
+    // Shared by every call toward PokeAPI, whichever thread makes it
+    private final TokenBucket rateLimit;
+
+    private final UpstreamResilience resilience;
+
+    public PokeApiClient(RestTemplate restTemplate, PokemonPayloadExtractor payloadExtractor,
+                         UpstreamClientStats stats, PokemonProperties properties) {
+        this.restTemplate = restTemplate;
+        this.payloadExtractor = payloadExtractor;
+        this.stats = stats;
+        this.baseUrl = properties.getUpstream().getBaseUrl();
+        this.rateLimit = new TokenBucket(properties.getUpstream().getRateLimitPerSecond(),
+                properties.getUpstream().getRateLimitBurst());
+        this.resilience = new UpstreamResilience(properties.getResilience(), stats);
+    }
+
+    /**
+     * Fetch /pokemon/{id}, parsing straight off the response stream
+     */
+    public PokemonPayload fetchPokemon(int id) {
+        return fetchPokemon(id, null).payload();
+    }
+
+    /**
+     * Fetch /pokemon/{id} conditionally. With previous validators the request carries
+     * If-None-Match / If-Modified-Since, and a 304 (or an identical body, recognised by its hash without being
+     * parsed) comes back as not modified.
+     * Transient failures are retried; {@link CircuitOpenException} while PokeAPI is known to be down.
+     */
+    public FetchResult fetchPokemon(int id, ResourceValidators previous) {
+        URI uri = URI.create(baseUrl + "/pokemon/" + id);
+        return resilience.call(() -> exchange("pokemon", uri, conditionalHeaders(previous), response -> read(response, previous)));
+    }
+
+    /**
+     * Species id -> region (lowercase main_region of the generation that introduced it),
+     * from /generation and one /generation/{id} call per generation
+     */
+    public Map<Integer, String> fetchRegionsBySpecies() {
+        List<String> generations = get(URI.create(baseUrl + "/generation?limit=100"), payloadExtractor::extractResultUrls);
+        Map<Integer, String> regions = new HashMap<>();
+        for (String url : generations) {
+            GenerationPayload generation = get(URI.create(url), payloadExtractor::extractGeneration);
+            if (generation.region() == null) continue;
+            generation.speciesIds().forEach(id -> regions.put(id, generation.region()));
+        }
+        return regions;
+    }
+
+    public UpstreamClientStats.Snapshot stats() {
+        return stats.snapshot();
+    }
+
+    public CircuitBreaker.State breakerState() {
+        return resilience.breakerState();
+    }
+
+    private <T> T get(URI uri, ResponseBody<T> reader) {
+        return resilience.call(() -> exchange("generation", uri, null, response -> reader.read(response.getBody())));
+    }
+
+    // One attempt: rate limited, then timed and tagged with the response status
+    private <T> T exchange(String resource, URI uri, RequestCallback callback, ResponseExtractor<T> extractor) {
+        throttle();
+        stats.recordRequest();
+        long started = System.nanoTime();
+        int[] status = {0};
+        try {
+            T result = restTemplate.execute(uri, HttpMethod.GET, callback, response -> {
+                status[0] = response.getStatusCode().value();
+                return extractor.extractData(response);
+            });
+            if (result == null) throw new IllegalStateException("Empty response body from " + uri);
+            return result;
+        } catch (RestClientResponseException e) {
+            status[0] = e.getStatusCode().value();
+            throw e;
+        } finally {
+            stats.recordResponse(resource, status[0], System.nanoTime() - started);
+        }
+    }
+
+    private void throttle() {
+        try {
+            stats.recordThrottle(rateLimit.acquire());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the upstream rate limit", e);
+        }
+    }
+
+    private RequestCallback conditionalHeaders(ResourceValidators previous) {
+        return request -> {
+            if (previous == null) return;
+            HttpHeaders headers = request.getHeaders();
+            if (previous.etag() != null) headers.setIfNoneMatch(previous.etag());
+            if (previous.lastModified() != null) headers.set(HttpHeaders.IF_MODIFIED_SINCE, previous.lastModified());
+        };
+    }
+
+    private FetchResult read(ClientHttpResponse response, ResourceValidators previous) throws IOException {
+        HttpHeaders headers = response.getHeaders();
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && previous != null) {
+            return FetchResult.notModified(previous);
+        }
+
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+
+        // A server that ignored the conditionals: compare the body's hash first and parse it only if it changed
+        if (previous != null && previous.contentHash() != null) {
+            byte[] body = StreamUtils.copyToByteArray(response.getBody());
+            String hash = HexFormat.of().formatHex(md5().digest(body));
+            if (hash.equals(previous.contentHash())) {
+                return FetchResult.notModified(new ResourceValidators(etag, lastModified, hash, previous.speciesId()));
+            }
+            PokemonPayload payload = payloadExtractor.extract(new ByteArrayInputStream(body));
+            return FetchResult.modified(payload, new ResourceValidators(etag, lastModified, hash, payload.speciesId()));
+        }
+
+        // Nothing to compare against: hash while streaming so the body is still read only once
+        MessageDigest digest = md5();
+        DigestInputStream body = new DigestInputStream(response.getBody(), digest);
+        PokemonPayload payload = payloadExtractor.extract(StreamUtils.nonClosing(body));
+        // Anything after the closing brace still counts towards the hash
+        body.transferTo(OutputStream.nullOutputStream());
+        return FetchResult.modified(payload,
+                new ResourceValidators(etag, lastModified, HexFormat.of().formatHex(digest.digest()), payload.speciesId()));
+    }
+
+    @FunctionalInterface
+    private interface ResponseBody<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
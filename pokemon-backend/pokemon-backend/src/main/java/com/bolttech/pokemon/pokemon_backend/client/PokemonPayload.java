@@ -0,0 +1,15 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import java.util.List;
+
+/**
+ * The handful of fields we keep from a PokeAPI /pokemon/{id} payload.
+ *
+ * @param name       raw (lowercase) Pokémon name
+ * @param frontImage sprites.front_default, may be null
+ * @param backImage  sprites.back_default, may be null
+ * @param types      type names in slot order
+ * @param speciesId  id from species.url (differs from the Pokémon id for alternate forms), 0 if absent
+ */
+public record PokemonPayload(String name, String frontImage, String backImage, List<String> types, int speciesId) {
+}
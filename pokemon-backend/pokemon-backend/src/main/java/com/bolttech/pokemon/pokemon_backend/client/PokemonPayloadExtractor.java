@@ -0,0 +1,174 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming extractor for PokeAPI /pokemon/{id} (and /generation) payloads.
+ * Reads straight from the response stream and skips everything we don't keep
+ * (moves, game_indices, sprite versions, ...) without building a tree.
+ */
+@Component
+public class PokemonPayloadExtractor {
+
+    private final JsonFactory jsonFactory;
+
+    public PokemonPayloadExtractor(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public PokemonPayload extract(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            String name = null;
+            String[] sprites = new String[2];
+            List<String> types = List.of();
+            int speciesId = 0;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "name" -> name = parser.getValueAsString();
+                    case "sprites" -> readSprites(parser, value, sprites);
+                    case "types" -> types = readTypes(parser, value);
+                    case "species" -> {
+                        if (value == JsonToken.START_OBJECT) speciesId = idFromUrl(readField(parser, "url"));
+                        else parser.skipChildren();
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+
+            if (name == null) throw new JsonParseException(parser, "Pokemon payload has no name");
+            return new PokemonPayload(name, sprites[0], sprites[1], types, speciesId);
+        }
+    }
+
+    /**
+     * Resource URLs of a PokeAPI list page ({"results":[{"name":...,"url":...}]})
+     */
+    public List<String> extractResultUrls(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            List<String> urls = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("results".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        String url = readField(parser, "url");
+                        if (url != null) urls.add(url);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return urls;
+        }
+    }
+
+    /**
+     * main_region and pokemon_species ids of a /generation/{id} payload
+     */
+    public GenerationPayload extractGeneration(InputStream in) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            String region = null;
+            List<Integer> speciesIds = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("main_region".equals(field) && value == JsonToken.START_OBJECT) {
+                    region = readField(parser, "name");
+                } else if ("pokemon_species".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        int id = idFromUrl(readField(parser, "url"));
+                        if (id > 0) speciesIds.add(id);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new GenerationPayload(region, speciesIds);
+        }
+    }
+
+    /**
+     * Trailing id of a resource URL such as https://pokeapi.co/api/v2/pokemon-species/25/, 0 if there is none
+     */
+    static int idFromUrl(String url) {
+        if (url == null) return 0;
+        int end = url.endsWith("/") ? url.length() - 1 : url.length();
+        int start = url.lastIndexOf('/', end - 1) + 1;
+        try {
+            return Integer.parseInt(url, start, end, 10);
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return 0;
+        }
+    }
+
+    // Only the top-level front/back defaults; "other" and "versions" are skipped unread
+    private void readSprites(JsonParser parser, JsonToken value, String[] sprites) throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "front_default" -> sprites[0] = parser.getValueAsString();
+                case "back_default" -> sprites[1] = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    // [{"slot":1,"type":{"name":"grass","url":...}}, ...]
+    private List<String> readTypes(JsonParser parser, JsonToken value) throws IOException {
+        expect(parser, value, JsonToken.START_ARRAY);
+        List<String> types = new ArrayList<>(2);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken typeValue = parser.nextToken();
+                if ("type".equals(field) && typeValue == JsonToken.START_OBJECT) {
+                    String typeName = readField(parser, "name");
+                    if (typeName != null) types.add(typeName);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return types;
+    }
+
+    // Reads {"name": ..., "url": ..., ...} up to its END_OBJECT, keeping one field
+    private String readField(JsonParser parser, String wanted) throws IOException {
+        String result = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if (wanted.equals(field)) result = parser.getValueAsString();
+            else parser.skipChildren();
+        }
+        return result;
+    }
+
+    private void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+}
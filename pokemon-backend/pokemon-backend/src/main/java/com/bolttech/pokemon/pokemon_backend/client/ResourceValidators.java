@@ -0,0 +1,16 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+/**
+ * Validators for one upstream resource, replayed on the next refresh as a conditional request.
+ *
+ * @param etag         ETag response header, may be null
+ * @param lastModified Last-Modified response header as sent by the server, may be null
+ * @param contentHash  MD5 of the response body, catches unchanged bodies when the server ignores conditionals
+ * @param speciesId    species of the Pokémon in that body, 0 if unknown; a 304 carries no body to read it from
+ */
+public record ResourceValidators(String etag, String lastModified, String contentHash, int speciesId) {
+
+    public ResourceValidators(String etag, String lastModified, String contentHash) {
+        this(etag, lastModified, contentHash, 0);
+    }
+}
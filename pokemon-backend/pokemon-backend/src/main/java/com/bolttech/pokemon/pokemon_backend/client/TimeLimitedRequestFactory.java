@@ -0,0 +1,41 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Apache request factory that aborts any exchange (connect, headers and body streaming)
+ * still running after the total request timeout. Connect and read timeouts alone
+ * cannot catch a server that trickles bytes just fast enough.
+ */
+class TimeLimitedRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final Duration totalTimeout;
+    private final ScheduledExecutorService watchdog;
+
+    TimeLimitedRequestFactory(HttpClient httpClient, Duration totalTimeout, ScheduledExecutorService watchdog) {
+        super(httpClient);
+        this.totalTimeout = totalTimeout;
+        this.watchdog = watchdog;
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        // Cancelling an exchange that already completed is a no-op, so the task is never unscheduled
+        if (request instanceof Cancellable cancellable) {
+            watchdog.schedule(cancellable::cancel, totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        watchdog.shutdownNow();
+        super.destroy();
+    }
+}
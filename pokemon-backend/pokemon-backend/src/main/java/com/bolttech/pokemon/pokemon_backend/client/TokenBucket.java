@@ -0,0 +1,50 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiter: up to {@code burst} calls back to back, then {@code permitsPerSecond} on average.
+ * Callers reserve a token and sleep outside the lock until it is due, so waiting callers are released
+ * in arrival order and evenly spaced.
+ */
+public class TokenBucket {
+
+    private final double permitsPerNano;
+
+    private final double capacity;
+
+    // May go negative: tokens already promised to sleeping callers
+    private double tokens;
+
+    private long refilledAt;
+
+    /**
+     * @param permitsPerSecond average rate; 0 or less disables limiting
+     * @param burst            tokens available after an idle period
+     */
+    public TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / 1_000_000_000d;
+        this.capacity = Math.max(1, burst);
+        this.tokens = capacity;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Take one token, sleeping until it is available
+     *
+     * @return nanoseconds spent waiting
+     */
+    public long acquire() throws InterruptedException {
+        if (permitsPerNano <= 0) return 0;
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * permitsPerNano);
+            refilledAt = now;
+            tokens -= 1;
+            waitNanos = tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+        }
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+        return waitNanos;
+    }
+}
@@ -0,0 +1,182 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection reuse and pool wait counters for the PokeAPI client, used to size the pool.
+ * Bound to a meter registry it also times every request by resource and response status,
+ * and exports the counters as metrics read at scrape time.
+ */
+public class UpstreamClientStats implements MeterBinder {
+
+    private final String client;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder connectionsOpened = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final LongAccumulator maxLeaseWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder throttledNanos = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder shortCircuited = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    // Live pool counters, null when the client does not expose a pool (JDK HttpClient)
+    private volatile ConnPoolControl<?> pool;
+
+    // Requests are timed once bound; one timer per resource and status, cached to skip the registry lookup
+    private volatile MeterRegistry registry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public UpstreamClientStats(String client) {
+        this.client = client;
+    }
+
+    void bindPool(ConnPoolControl<?> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        counter(registry, "pokemon.upstream.retries", retries, "Attempts repeated after a transient failure");
+        counter(registry, "pokemon.upstream.short.circuited", shortCircuited, "Calls rejected while the circuit breaker was open");
+        counter(registry, "pokemon.upstream.hedges", hedges, "Duplicate requests sent because the first one was slow");
+        counter(registry, "pokemon.upstream.connections.opened", connectionsOpened, "New connections opened to PokeAPI");
+        FunctionCounter.builder("pokemon.upstream.throttled", throttledNanos, n -> n.sum() / 1e9)
+                .description("Time callers waited on the upstream rate limit")
+                .baseUnit("seconds").tag("client", client).register(registry);
+        Gauge.builder("pokemon.upstream.pool.connections", this, s -> s.poolStats().getLeased())
+                .description("Pooled connections by state").tags("client", client, "state", "leased").register(registry);
+        Gauge.builder("pokemon.upstream.pool.connections", this, s -> s.poolStats().getAvailable())
+                .description("Pooled connections by state").tags("client", client, "state", "idle").register(registry);
+        Gauge.builder("pokemon.upstream.pool.pending", this, s -> s.poolStats().getPending())
+                .description("Requests waiting for a pooled connection").tag("client", client).register(registry);
+        this.registry = registry;
+    }
+
+    void recordRequest() {
+        requests.increment();
+    }
+
+    /**
+     * One attempt that reached PokeAPI (or failed trying); status 0 when no response came back
+     */
+    void recordResponse(String resource, int status, long nanos) {
+        MeterRegistry bound = registry;
+        if (bound == null) return;
+        Timer timer = timers.computeIfAbsent(resource + ':' + status, key -> Timer.builder("pokemon.upstream.requests")
+                .description("PokeAPI requests by resource and response status, one per attempt")
+                .tags("client", client, "resource", resource,
+                        "status", status == 0 ? "IO_ERROR" : Integer.toString(status), "outcome", outcome(status))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(bound));
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordConnectionOpened() {
+        connectionsOpened.increment();
+    }
+
+    void recordLeaseWait(long nanos) {
+        leases.increment();
+        leaseWaitNanos.add(nanos);
+        maxLeaseWaitNanos.accumulate(nanos);
+    }
+
+    void recordThrottle(long nanos) {
+        throttledNanos.add(nanos);
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordShortCircuit() {
+        shortCircuited.increment();
+    }
+
+    void recordHedge() {
+        hedges.increment();
+    }
+
+    public Snapshot snapshot() {
+        long requestCount = requests.sum();
+        long opened = connectionsOpened.sum();
+        long leaseCount = leases.sum();
+        double reuseRatio = requestCount == 0 || pool == null ? 0 : Math.max(0, 1 - (double) opened / requestCount);
+        double avgWaitMillis = leaseCount == 0 ? 0 : leaseWaitNanos.sum() / (double) leaseCount / 1_000_000;
+
+        PoolStats poolStats = poolStats();
+        return new Snapshot(client, requestCount, opened, reuseRatio,
+                poolStats.getLeased(), poolStats.getAvailable(), poolStats.getPending(), poolStats.getMax(),
+                avgWaitMillis, TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get()),
+                TimeUnit.NANOSECONDS.toMillis(throttledNanos.sum()),
+                retries.sum(), shortCircuited.sum(), hedges.sum());
+    }
+
+    private PoolStats poolStats() {
+        ConnPoolControl<?> current = pool;
+        return current == null ? new PoolStats(0, 0, 0, 0) : current.getTotalStats();
+    }
+
+    private void counter(MeterRegistry registry, String name, LongAdder adder, String description) {
+        FunctionCounter.builder(name, adder, LongAdder::sum).description(description).tag("client", client).register(registry);
+    }
+
+    private static String outcome(int status) {
+        return switch (status / 100) {
+            case 2 -> "SUCCESS";
+            case 3 -> "REDIRECTION";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+
+    /**
+     * @param client             "pooled" (Apache HttpClient, HTTP/1.1) or "jdk" (java.net.http, HTTP/2)
+     * @param requests           requests sent since startup
+     * @param connectionsOpened  new connections opened (pooled client only)
+     * @param reuseRatio         share of requests served on a reused connection
+     * @param leased             connections currently in use
+     * @param available          idle connections kept alive in the pool
+     * @param pending            requests currently waiting for a connection
+     * @param max                pool size limit
+     * @param avgLeaseWaitMillis average time spent waiting for a pooled connection
+     * @param maxLeaseWaitMillis longest time spent waiting for a pooled connection
+     * @param throttledMillis    total time callers waited on the upstream rate limit
+     * @param retries            attempts repeated after a transient failure
+     * @param shortCircuited     calls rejected because the circuit breaker was open
+     * @param hedges             duplicate requests sent because the first one was slow
+     */
+    public record Snapshot(String client, long requests, long connectionsOpened, double reuseRatio,
+                           int leased, int available, int pending, int max,
+                           double avgLeaseWaitMillis, long maxLeaseWaitMillis, long throttledMillis,
+                           long retries, long shortCircuited, long hedges) {
+
+        @Override
+        public String toString() {
+            return String.format("%s client: %d requests, %d connections opened, %.0f%% reused, "
+                            + "pool %d leased/%d idle/%d pending of %d, lease wait avg %.1f ms max %d ms, "
+                            + "rate limited %d ms, %d retries, %d short-circuited, %d hedged",
+                    client, requests, connectionsOpened, reuseRatio * 100,
+                    leased, available, pending, max, avgLeaseWaitMillis, maxLeaseWaitMillis, throttledMillis,
+                    retries, shortCircuited, hedges);
+        }
+    }
+}
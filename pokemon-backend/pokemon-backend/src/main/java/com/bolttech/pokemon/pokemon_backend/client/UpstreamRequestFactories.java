@@ -0,0 +1,109 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import javax.net.ssl.SSLSocket;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Builds the request factory behind the PokeAPI RestTemplate.
+ * <ul>
+ *   <li>pooled: Apache HttpClient 5, HTTP/1.1 keep-alive pool with per-route limits and idle eviction</li>
+ *   <li>HTTP/2: JDK HttpClient, one multiplexed connection per host (falls back to HTTP/1.1 without ALPN)</li>
+ * </ul>
+ * Both stream response bodies; nothing is buffered before the extractor reads it.
+ */
+public final class UpstreamRequestFactories {
+
+    private UpstreamRequestFactories() {
+    }
+
+    public static ClientHttpRequestFactory create(PokemonProperties.Upstream upstream, UpstreamClientStats stats) {
+        return upstream.isHttp2() ? http2(upstream) : pooled(upstream, stats);
+    }
+
+    static ClientHttpRequestFactory pooled(PokemonProperties.Upstream upstream, UpstreamClientStats stats) {
+        PoolingHttpClientConnectionManager pool = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(upstream.getMaxConnections())
+                .setMaxConnPerRoute(upstream.getMaxConnectionsPerRoute())
+                .setConnectionFactory(countingConnectionFactory(stats))
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(timeout(upstream.getConnectTimeout()))
+                        .setSocketTimeout(timeout(upstream.getReadTimeout()))
+                        .setTimeToLive(TimeValue.of(upstream.getConnectionTimeToLive()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+        stats.bindPool(pool);
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(new InstrumentedConnectionManager(pool, stats))
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(timeout(upstream.getConnectionRequestTimeout()))
+                        .setResponseTimeout(timeout(upstream.getReadTimeout()))
+                        // Used when the server does not send a Keep-Alive header
+                        .setConnectionKeepAlive(TimeValue.of(upstream.getIdleTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(upstream.getIdleTimeout()))
+                .evictExpiredConnections()
+                .build();
+
+        ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pokeapi-request-watchdog");
+            t.setDaemon(true);
+            return t;
+        });
+        return new TimeLimitedRequestFactory(httpClient, upstream.getTotalTimeout(), watchdog);
+    }
+
+    static ClientHttpRequestFactory http2(PokemonProperties.Upstream upstream) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(upstream.getConnectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        // The JDK client has no per-read timeout; its request timeout spans headers and body
+        factory.setReadTimeout(upstream.getTotalTimeout());
+        return factory;
+    }
+
+    private static HttpConnectionFactory<ManagedHttpClientConnection> countingConnectionFactory(UpstreamClientStats stats) {
+        HttpConnectionFactory<ManagedHttpClientConnection> delegate = ManagedHttpClientConnectionFactory.INSTANCE;
+        return new HttpConnectionFactory<>() {
+            @Override
+            public ManagedHttpClientConnection createConnection(Socket socket) throws IOException {
+                stats.recordConnectionOpened();
+                return delegate.createConnection(socket);
+            }
+
+            @Override
+            public ManagedHttpClientConnection createConnection(SSLSocket sslSocket, Socket socket) throws IOException {
+                stats.recordConnectionOpened();
+                return delegate.createConnection(sslSocket, socket);
+            }
+        };
+    }
+
+    private static Timeout timeout(Duration duration) {
+        return Timeout.of(duration);
+    }
+}
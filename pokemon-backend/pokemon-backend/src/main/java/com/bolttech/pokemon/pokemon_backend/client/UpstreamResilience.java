@@ -0,0 +1,222 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Retries, circuit breaker and hedging around single PokeAPI calls.
+ * <ul>
+ *   <li>Transient failures (I/O errors and timeouts, 5xx, 429) are retried up to max-attempts times with
+ *       exponential backoff and full jitter. Anything else (404, unparseable body) fails straight away.</li>
+ *   <li>Transient failures also feed the {@link CircuitBreaker}; while it is open calls fail immediately
+ *       with {@link CircuitOpenException} instead of waiting on timeouts.</li>
+ *   <li>With a hedge delay set, an attempt still running after that delay gets a duplicate request and
+ *       the first success wins; the other request is cancelled. Hedged attempts run on a bounded pool, and an
+ *       attempt that finds it full runs on the calling thread without a hedge.</li>
+ * </ul>
+ * An interrupted or cancelled call (e.g. past the ingestion call timeout) stops waiting, cancels its requests
+ * and is not counted by the breaker either way.
+ */
+class UpstreamResilience {
+
+    private final int maxAttempts;
+
+    private final long baseDelayMillis;
+
+    private final long maxDelayMillis;
+
+    private final long hedgeDelayMillis;
+
+    private final CircuitBreaker breaker;
+
+    private final UpstreamClientStats stats;
+
+    // Only created when hedging is on; bounded, no queue, daemon threads that die when idle
+    private final ThreadPoolExecutor hedgeExecutor;
+
+    UpstreamResilience(PokemonProperties.Resilience config, UpstreamClientStats stats) {
+        this.maxAttempts = Math.max(1, config.getMaxAttempts());
+        this.baseDelayMillis = config.getBackoffBase().toMillis();
+        this.maxDelayMillis = config.getBackoffMax().toMillis();
+        this.hedgeDelayMillis = config.getHedgeDelay().toMillis();
+        this.breaker = new CircuitBreaker(config.getBreakerFailureThreshold(), config.getBreakerOpenDuration());
+        this.stats = stats;
+        this.hedgeExecutor = hedgeDelayMillis > 0 ? hedgePool(Math.max(2, config.getHedgeMaxConcurrency())) : null;
+    }
+
+    <T> T call(Supplier<T> attempt) {
+        for (int attemptNo = 1; ; attemptNo++) {
+            try {
+                breaker.acquirePermission();
+            } catch (CircuitOpenException e) {
+                stats.recordShortCircuit();
+                throw e;
+            }
+            try {
+                T result = hedged(attempt);
+                breaker.onSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                if (isInterruption(e)) {
+                    // Our caller gave up; this says nothing about upstream
+                    breaker.onAbandoned();
+                    throw e;
+                }
+                if (!isTransient(e)) {
+                    // Upstream answered; it is the request that is bad
+                    breaker.onSuccess();
+                    throw e;
+                }
+                breaker.onFailure();
+                if (attemptNo >= maxAttempts) throw e;
+                stats.recordRetry();
+                sleep(backoff(attemptNo));
+            }
+        }
+    }
+
+    CircuitBreaker.State breakerState() {
+        return breaker.state();
+    }
+
+    /**
+     * Full jitter: uniform in [0, min(max, base * 2^(attempt - 1))]
+     */
+    long backoff(int attemptNo) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attemptNo - 1, 20));
+        return ceiling <= 0 ? 0 : ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    private <T> T hedged(Supplier<T> attempt) {
+        if (hedgeExecutor == null) return attempt.get();
+
+        Race<T> race = new Race<>();
+        if (!race.start(attempt, hedgeExecutor)) return attempt.get();
+        try {
+            try {
+                return race.winner.get(hedgeDelayMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException slow) {
+                if (race.start(attempt, hedgeExecutor)) stats.recordHedge();
+            }
+            return race.winner.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for PokeAPI", e);
+        } finally {
+            // The loser, or both requests when the caller was interrupted
+            race.cancel();
+        }
+    }
+
+    /**
+     * Up to two concurrent requests for the same attempt. The winner completes with the first success,
+     * or with the last failure once every started request has failed.
+     */
+    private static final class Race<T> {
+        final CompletableFuture<T> winner = new CompletableFuture<>();
+        private final List<Future<?>> requests = new CopyOnWriteArrayList<>();
+        private final AtomicInteger running = new AtomicInteger();
+        private volatile Throwable lastFailure;
+
+        // False when the pool is full and the request was not started
+        boolean start(Supplier<T> attempt, Executor executor) {
+            running.incrementAndGet();
+            FutureTask<Void> request = new FutureTask<>(() -> {
+                try {
+                    winner.complete(attempt.get());
+                } catch (Throwable e) {
+                    failed(e);
+                }
+            }, null);
+            try {
+                executor.execute(request);
+            } catch (RejectedExecutionException full) {
+                failed(null);
+                return false;
+            }
+            requests.add(request);
+            return true;
+        }
+
+        void cancel() {
+            for (Future<?> request : requests) request.cancel(true);
+        }
+
+        private void failed(Throwable e) {
+            if (e != null) lastFailure = e;
+            if (running.decrementAndGet() == 0 && lastFailure != null) winner.completeExceptionally(lastFailure);
+        }
+    }
+
+    private static ThreadPoolExecutor hedgePool(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "pokemon-hedge-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * The caller was interrupted or the call cancelled, as opposed to upstream failing
+     */
+    static boolean isInterruption(Throwable e) {
+        if (Thread.currentThread().isInterrupted()) return true;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof CancellationException) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Worth retrying: the upstream was unreachable, slow, overloaded or failing, as opposed to a bad request or payload
+     */
+    static boolean isTransient(Throwable e) {
+        if (e instanceof HttpServerErrorException || e instanceof HttpClientErrorException.TooManyRequests) return true;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof JsonProcessingException) return false;
+            if (cause instanceof IOException) return true;
+        }
+        return false;
+    }
+
+    private static RuntimeException unwrap(Throwable e) {
+        while (e instanceof CompletionException && e.getCause() != null) e = e.getCause();
+        return e instanceof RuntimeException runtime ? runtime : new IllegalStateException(e);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted between PokeAPI retries", e);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.bolttech.pokemon.pokemon_backend.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -10,13 +10,9 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @Configuration
 @EnableCaching
 @EnableScheduling
+@EnableConfigurationProperties(PokemonProperties.class)
 public class AppConfig {
 
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-
     //Convert JSON to Java objects and back
     @Bean
     public ObjectMapper objectMapper() {
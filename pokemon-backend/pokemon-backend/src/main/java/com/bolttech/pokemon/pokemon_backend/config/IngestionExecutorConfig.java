@@ -0,0 +1,118 @@
+package com.bolttech.pokemon.pokemon_backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dedicated executor for the blocking PokeAPI fan-out, so ingestion never runs on ForkJoinPool.commonPool().
+ */
+@Configuration
+public class IngestionExecutorConfig {
+
+    public static final String INGESTION_EXECUTOR = "pokemonIngestionExecutor";
+
+    @Bean(name = INGESTION_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService pokemonIngestionExecutor(PokemonProperties properties) {
+        return create(properties.getIngestion());
+    }
+
+    /**
+     * Build the executor described by the ingestion properties
+     */
+    public static ExecutorService create(PokemonProperties.Ingestion ingestion) {
+        int maxConcurrency = Math.max(1, ingestion.getMaxConcurrency());
+        boolean virtual = switch (ingestion.getExecutor()) {
+            case VIRTUAL -> true;
+            case PLATFORM -> false;
+            case AUTO -> Runtime.version().feature() >= 21;
+        };
+
+        if (virtual) {
+            ExecutorService perTask = newVirtualThreadPerTaskExecutor();
+            if (perTask != null) return new ConcurrencyLimitedExecutor(perTask, maxConcurrency);
+            System.err.println("Virtual threads need Java 21+, using a platform thread pool for ingestion");
+        }
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                maxConcurrency, maxConcurrency,
+                30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, ingestion.getQueueCapacity())),
+                namedDaemonThreads("pokemon-ingest-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    // Looked up reflectively so the project still compiles for Java 17
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Thread-per-task executor where at most maxConcurrency tasks run at once.
+     * Waiting tasks park on the semaphore, which is cheap for virtual threads.
+     */
+    static final class ConcurrencyLimitedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        ConcurrencyLimitedExecutor(ExecutorService delegate, int maxConcurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            delegate.execute(() -> {
+                // Uninterruptible so a queued task always runs and completes its future
+                permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() { delegate.shutdown(); }
+
+        @Override
+        public List<Runnable> shutdownNow() { return delegate.shutdownNow(); }
+
+        @Override
+        public boolean isShutdown() { return delegate.isShutdown(); }
+
+        @Override
+        public boolean isTerminated() { return delegate.isTerminated(); }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
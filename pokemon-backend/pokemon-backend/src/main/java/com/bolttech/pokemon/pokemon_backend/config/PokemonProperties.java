@@ -0,0 +1,299 @@
+package com.bolttech.pokemon.pokemon_backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tunables for catalog ingestion and serving (prefix "pokemon").
+ */
+@ConfigurationProperties(prefix = "pokemon")
+public class PokemonProperties {
+
+    private final Catalog catalog = new Catalog();
+
+    private final Ingestion ingestion = new Ingestion();
+
+    private final Upstream upstream = new Upstream();
+
+    private final Redis redis = new Redis();
+
+    private final Resilience resilience = new Resilience();
+
+    private final Http http = new Http();
+
+    private final Refresh refresh = new Refresh();
+
+    public Catalog getCatalog() { return catalog; }
+
+    public Ingestion getIngestion() { return ingestion; }
+
+    public Upstream getUpstream() { return upstream; }
+
+    public Redis getRedis() { return redis; }
+
+    public Resilience getResilience() { return resilience; }
+
+    public Http getHttp() { return http; }
+
+    public Refresh getRefresh() { return refresh; }
+
+    public static class Catalog {
+        // Share of ids a rebuild must fetch fresh before it replaces the published catalog
+        private double minCompleteRatio = 0.95;
+
+        // Local copy of the last real catalog, served on restart before any upstream call; blank disables it
+        private String snapshotFile = "data/pokemon-catalog.snapshot";
+
+        public double getMinCompleteRatio() { return minCompleteRatio; }
+        public void setMinCompleteRatio(double minCompleteRatio) { this.minCompleteRatio = minCompleteRatio; }
+
+        public String getSnapshotFile() { return snapshotFile; }
+        public void setSnapshotFile(String snapshotFile) { this.snapshotFile = snapshotFile; }
+    }
+
+    public static class Ingestion {
+        // AUTO picks virtual threads on Java 21+ and a platform pool otherwise
+        private ExecutorMode executor = ExecutorMode.AUTO;
+
+        // Upper bound on concurrent PokeAPI calls
+        private int maxConcurrency = 16;
+
+        // Tasks waiting for a platform thread; beyond this the submitting thread runs the call itself
+        private int queueCapacity = 2000;
+
+        // Give up on a single Pokémon after it has run this long; 0 derives it from the upstream retry budget
+        private Duration callTimeout = Duration.ZERO;
+
+        // National Dex id range to ingest
+        private int firstId = 1;
+        private int lastId = 1025;
+
+        // Ids fetched per batch; progress is checkpointed after each batch
+        private int batchSize = 50;
+
+        // Progress of an interrupted ingestion, picked up by the next run; blank disables checkpointing
+        private String checkpointFile = "data/pokemon-ingestion.checkpoint";
+
+        // Checkpointed entries older than this are fetched again
+        private Duration checkpointMaxAge = Duration.ofHours(1);
+
+        public ExecutorMode getExecutor() { return executor; }
+        public void setExecutor(ExecutorMode executor) { this.executor = executor; }
+
+        public int getMaxConcurrency() { return maxConcurrency; }
+        public void setMaxConcurrency(int maxConcurrency) { this.maxConcurrency = maxConcurrency; }
+
+        public int getQueueCapacity() { return queueCapacity; }
+        public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+        public Duration getCallTimeout() { return callTimeout; }
+        public void setCallTimeout(Duration callTimeout) { this.callTimeout = callTimeout; }
+
+        public int getFirstId() { return firstId; }
+        public void setFirstId(int firstId) { this.firstId = firstId; }
+
+        public int getLastId() { return lastId; }
+        public void setLastId(int lastId) { this.lastId = lastId; }
+
+        public int getBatchSize() { return batchSize; }
+        public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+        public String getCheckpointFile() { return checkpointFile; }
+        public void setCheckpointFile(String checkpointFile) { this.checkpointFile = checkpointFile; }
+
+        public Duration getCheckpointMaxAge() { return checkpointMaxAge; }
+        public void setCheckpointMaxAge(Duration checkpointMaxAge) { this.checkpointMaxAge = checkpointMaxAge; }
+    }
+
+    public static class Redis {
+        // How long a node trusts its local copy of the Redis id index before re-reading it
+        private Duration indexTtl = Duration.ofSeconds(30);
+
+        // Encoding for new values; both formats are always readable
+        private ValueFormat valueFormat = ValueFormat.BINARY;
+
+        // In-process L1 in front of Redis; 0 disables it
+        private int l1MaxEntries = 2000;
+
+        // Upper bound on L1 staleness when an invalidation broadcast is missed
+        private Duration l1Ttl = Duration.ofSeconds(60);
+
+        // How long a read waits for a concurrent read of the same entry before giving up
+        private Duration singleFlightTimeout = Duration.ofSeconds(2);
+
+        public Duration getIndexTtl() { return indexTtl; }
+        public void setIndexTtl(Duration indexTtl) { this.indexTtl = indexTtl; }
+
+        public ValueFormat getValueFormat() { return valueFormat; }
+        public void setValueFormat(ValueFormat valueFormat) { this.valueFormat = valueFormat; }
+
+        public int getL1MaxEntries() { return l1MaxEntries; }
+        public void setL1MaxEntries(int l1MaxEntries) { this.l1MaxEntries = l1MaxEntries; }
+
+        public Duration getL1Ttl() { return l1Ttl; }
+        public void setL1Ttl(Duration l1Ttl) { this.l1Ttl = l1Ttl; }
+
+        public Duration getSingleFlightTimeout() { return singleFlightTimeout; }
+        public void setSingleFlightTimeout(Duration singleFlightTimeout) { this.singleFlightTimeout = singleFlightTimeout; }
+    }
+
+    public static class Upstream {
+        private String baseUrl = "https://pokeapi.co/api/v2";
+
+        // JDK HttpClient with HTTP/2 instead of the pooled HTTP/1.1 client
+        private boolean http2 = false;
+
+        private int maxConnections = 32;
+
+        // Keep at or above ingestion.max-concurrency, or calls queue for a connection
+        private int maxConnectionsPerRoute = 16;
+
+        private Duration connectTimeout = Duration.ofSeconds(3);
+
+        // Max silence between bytes while reading a response
+        private Duration readTimeout = Duration.ofSeconds(5);
+
+        // Max wait for a free pooled connection
+        private Duration connectionRequestTimeout = Duration.ofSeconds(3);
+
+        // Hard cap on one exchange, body included
+        private Duration totalTimeout = Duration.ofSeconds(10);
+
+        // Idle keep-alive connections are closed after this
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+        // Token bucket toward PokeAPI: average requests per second (0 disables) and burst size
+        private double rateLimitPerSecond = 50;
+        private int rateLimitBurst = 50;
+
+        public String getBaseUrl() { return baseUrl; }
+        public void setBaseUrl(String baseUrl) { this.baseUrl = baseUrl; }
+
+        public boolean isHttp2() { return http2; }
+        public void setHttp2(boolean http2) { this.http2 = http2; }
+
+        public int getMaxConnections() { return maxConnections; }
+        public void setMaxConnections(int maxConnections) { this.maxConnections = maxConnections; }
+
+        public int getMaxConnectionsPerRoute() { return maxConnectionsPerRoute; }
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) { this.maxConnectionsPerRoute = maxConnectionsPerRoute; }
+
+        public Duration getConnectTimeout() { return connectTimeout; }
+        public void setConnectTimeout(Duration connectTimeout) { this.connectTimeout = connectTimeout; }
+
+        public Duration getReadTimeout() { return readTimeout; }
+        public void setReadTimeout(Duration readTimeout) { this.readTimeout = readTimeout; }
+
+        public Duration getConnectionRequestTimeout() { return connectionRequestTimeout; }
+        public void setConnectionRequestTimeout(Duration connectionRequestTimeout) { this.connectionRequestTimeout = connectionRequestTimeout; }
+
+        public Duration getTotalTimeout() { return totalTimeout; }
+        public void setTotalTimeout(Duration totalTimeout) { this.totalTimeout = totalTimeout; }
+
+        public Duration getIdleTimeout() { return idleTimeout; }
+        public void setIdleTimeout(Duration idleTimeout) { this.idleTimeout = idleTimeout; }
+
+        public Duration getConnectionTimeToLive() { return connectionTimeToLive; }
+        public void setConnectionTimeToLive(Duration connectionTimeToLive) { this.connectionTimeToLive = connectionTimeToLive; }
+
+        public double getRateLimitPerSecond() { return rateLimitPerSecond; }
+        public void setRateLimitPerSecond(double rateLimitPerSecond) { this.rateLimitPerSecond = rateLimitPerSecond; }
+
+        public int getRateLimitBurst() { return rateLimitBurst; }
+        public void setRateLimitBurst(int rateLimitBurst) { this.rateLimitBurst = rateLimitBurst; }
+    }
+
+    public static class Resilience {
+        // Attempts per upstream call, first one included; only transient failures are retried
+        private int maxAttempts = 3;
+
+        // Exponential backoff between attempts, with full jitter
+        private Duration backoffBase = Duration.ofMillis(200);
+        private Duration backoffMax = Duration.ofSeconds(2);
+
+        // Consecutive transient failures that open the circuit (0 disables), and how long it stays open
+        private int breakerFailureThreshold = 10;
+        private Duration breakerOpenDuration = Duration.ofSeconds(30);
+
+        // Send a duplicate request when the first has not answered after this long (0 disables)
+        private Duration hedgeDelay = Duration.ZERO;
+
+        // Threads running hedged attempts (a hedged call's first request and its duplicate); when all are busy
+        // an attempt runs on the calling thread without a hedge
+        private int hedgeMaxConcurrency = 8;
+
+        public int getMaxAttempts() { return maxAttempts; }
+        public void setMaxAttempts(int maxAttempts) { this.maxAttempts = maxAttempts; }
+
+        public Duration getBackoffBase() { return backoffBase; }
+        public void setBackoffBase(Duration backoffBase) { this.backoffBase = backoffBase; }
+
+        public Duration getBackoffMax() { return backoffMax; }
+        public void setBackoffMax(Duration backoffMax) { this.backoffMax = backoffMax; }
+
+        public int getBreakerFailureThreshold() { return breakerFailureThreshold; }
+        public void setBreakerFailureThreshold(int breakerFailureThreshold) { this.breakerFailureThreshold = breakerFailureThreshold; }
+
+        public Duration getBreakerOpenDuration() { return breakerOpenDuration; }
+        public void setBreakerOpenDuration(Duration breakerOpenDuration) { this.breakerOpenDuration = breakerOpenDuration; }
+
+        public Duration getHedgeDelay() { return hedgeDelay; }
+        public void setHedgeDelay(Duration hedgeDelay) { this.hedgeDelay = hedgeDelay; }
+
+        public int getHedgeMaxConcurrency() { return hedgeMaxConcurrency; }
+        public void setHedgeMaxConcurrency(int hedgeMaxConcurrency) { this.hedgeMaxConcurrency = hedgeMaxConcurrency; }
+    }
+
+    public static class Refresh {
+        // Catalog age at which the next periodic check rebuilds it
+        private Duration interval = Duration.ofHours(1);
+
+        // Lifetime of the cluster refresh lease, renewed after every ingestion batch; a crashed leader's lease lapses after this
+        private Duration leaseTtl = Duration.ofMinutes(2);
+
+        // How long the lease stays taken after a refresh, so a failing upstream is retried at most this often
+        private Duration cooldown = Duration.ofMinutes(5);
+
+        public Duration getInterval() { return interval; }
+        public void setInterval(Duration interval) { this.interval = interval; }
+
+        public Duration getLeaseTtl() { return leaseTtl; }
+        public void setLeaseTtl(Duration leaseTtl) { this.leaseTtl = leaseTtl; }
+
+        public Duration getCooldown() { return cooldown; }
+        public void setCooldown(Duration cooldown) { this.cooldown = cooldown; }
+    }
+
+    public static class Http {
+        // How long clients and shared caches may reuse a cursor page before revalidating its ETag
+        private Duration cursorPageMaxAge = Duration.ofSeconds(60);
+
+        // Most distinct ids one batch lookup may ask for
+        private int batchMaxIds = 100;
+
+        // Threads that write streamed responses; each write blocks its thread until the client takes the bytes
+        private int streamThreads = 16;
+
+        // Writes waiting for a stream thread; beyond this new writes are rejected and their streams end
+        private int streamQueueCapacity = 500;
+
+        public Duration getCursorPageMaxAge() { return cursorPageMaxAge; }
+        public void setCursorPageMaxAge(Duration cursorPageMaxAge) { this.cursorPageMaxAge = cursorPageMaxAge; }
+
+        public int getBatchMaxIds() { return batchMaxIds; }
+        public void setBatchMaxIds(int batchMaxIds) { this.batchMaxIds = batchMaxIds; }
+
+        public int getStreamThreads() { return streamThreads; }
+        public void setStreamThreads(int streamThreads) { this.streamThreads = streamThreads; }
+
+        public int getStreamQueueCapacity() { return streamQueueCapacity; }
+        public void setStreamQueueCapacity(int streamQueueCapacity) { this.streamQueueCapacity = streamQueueCapacity; }
+    }
+
+    public enum ExecutorMode { AUTO, VIRTUAL, PLATFORM }
+
+    public enum ValueFormat { BINARY, JSON }
+}
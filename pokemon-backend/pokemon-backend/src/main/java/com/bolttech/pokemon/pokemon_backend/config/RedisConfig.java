@@ -1,6 +1,7 @@
 package com.bolttech.pokemon.pokemon_backend.config;
 
 
+import com.bolttech.pokemon.pokemon_backend.cache.PokemonRedisSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
@@ -12,7 +13,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(LettuceConnectionFactory connectionFactory, PokemonProperties properties) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -20,8 +21,8 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // Value as JSON
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Value as compact binary (pokemon.redis.value-format), legacy JSON still readable
+        template.setValueSerializer(new PokemonRedisSerializer(properties.getRedis().getValueFormat()));
         template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
 
         template.afterPropertiesSet();
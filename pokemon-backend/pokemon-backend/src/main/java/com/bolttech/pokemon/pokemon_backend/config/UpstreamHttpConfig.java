@@ -0,0 +1,30 @@
+package com.bolttech.pokemon.pokemon_backend.config;
+
+import com.bolttech.pokemon.pokemon_backend.client.UpstreamClientStats;
+import com.bolttech.pokemon.pokemon_backend.client.UpstreamRequestFactories;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * HTTP client used for PokeAPI: pooled keep-alive connections (or HTTP/2) with explicit timeouts.
+ */
+@Configuration
+public class UpstreamHttpConfig {
+
+    @Bean
+    public UpstreamClientStats upstreamClientStats(PokemonProperties properties) {
+        return new UpstreamClientStats(properties.getUpstream().isHttp2() ? "jdk" : "pooled");
+    }
+
+    @Bean
+    public ClientHttpRequestFactory upstreamRequestFactory(PokemonProperties properties, UpstreamClientStats stats) {
+        return UpstreamRequestFactories.create(properties.getUpstream(), stats);
+    }
+
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory upstreamRequestFactory) {
+        return new RestTemplate(upstreamRequestFactory);
+    }
+}
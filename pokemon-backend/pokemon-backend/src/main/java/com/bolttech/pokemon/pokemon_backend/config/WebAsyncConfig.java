@@ -0,0 +1,47 @@
+package com.bolttech.pokemon.pokemon_backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded executor for Spring MVC async requests, which write the streamed Flux responses.
+ * The ingestion executor bean makes Boot skip its default task executor, so without this MVC
+ * falls back to a SimpleAsyncTaskExecutor that starts a new thread for every write.
+ * A write that finds every thread busy and the queue full is rejected, which ends that stream, rather than
+ * being run by the Tomcat or Reactor thread that emitted it.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    public static final String MVC_ASYNC_EXECUTOR = "pokemonMvcAsyncExecutor";
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public WebAsyncConfig(PokemonProperties properties) {
+        PokemonProperties.Http http = properties.getHttp();
+        executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("pokemon-stream-");
+        executor.setCorePoolSize(Math.max(1, http.getStreamThreads()));
+        executor.setMaxPoolSize(Math.max(1, http.getStreamThreads()));
+        executor.setQueueCapacity(Math.max(1, http.getStreamQueueCapacity()));
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setDaemon(true);
+    }
+
+    // A bean so it is initialized and shut down with the context
+    @Bean(name = MVC_ASYNC_EXECUTOR)
+    public ThreadPoolTaskExecutor pokemonMvcAsyncExecutor() {
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executor);
+    }
+}
@@ -1,13 +1,27 @@
 package com.bolttech.pokemon.pokemon_backend.controller;
 
+import com.bolttech.pokemon.pokemon_backend.cache.PokemonRedisStore;
+import com.bolttech.pokemon.pokemon_backend.catalog.BatchResult;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogStatus;
+import com.bolttech.pokemon.pokemon_backend.catalog.CursorPage;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonFilter;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
 import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonJsonRenderer;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonJsonRenderer.RenderedJson;
 import com.bolttech.pokemon.pokemon_backend.service.PokemonService;
+import com.bolttech.pokemon.pokemon_backend.type.Matchup;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 /**
- * Controller class for Pokémon API endpoints
+ * Controller class for Pokémon API endpoints.
+ * Pokémon bodies are written from JSON pre-rendered per catalog version, with a strong ETag;
+ * a matching If-None-Match gets a 304 without a body.
  */
 @CrossOrigin(origins = "*")
 @RestController
@@ -15,20 +29,95 @@ import java.util.List;
 public class PokemonController {
     private final PokemonService pokemonService;
 
+    private final PokemonJsonRenderer jsonRenderer;
+
+    private final CacheControl cursorPageCaching;
+
     // Constructor injection
-    public PokemonController(PokemonService pokemonService) {
+    public PokemonController(PokemonService pokemonService, PokemonJsonRenderer jsonRenderer,
+                             PokemonProperties properties) {
         this.pokemonService = pokemonService;
+        this.jsonRenderer = jsonRenderer;
+        this.cursorPageCaching = CacheControl.maxAge(properties.getHttp().getCursorPageMaxAge()).cachePublic();
+    }
+
+    // Pagination endpoint for infinite scroll.
+    // Optional filters, e.g. ?type=fire,flying&weakTo=water (any listed type, and any listed weakness)
+    @GetMapping(params = "page")
+    public ResponseEntity<byte[]> getPokemons(@RequestParam int page, @RequestParam int size,
+                                              @RequestParam(required = false) List<String> type,
+                                              @RequestParam(required = false) List<String> weakTo) {
+        PokemonFilter filter = new PokemonFilter(type, weakTo);
+        List<Pokemon> pokemons = filter.isEmpty()
+                ? pokemonService.fetchPokemonPage(page, size)
+                : pokemonService.fetchPokemonPage(page, size, filter);
+        return json(jsonRenderer.list(pokemons));
+    }
+
+    // Cursor paging: ?size=20 for the first page, then ?size=20&cursor=<next> until next is null.
+    // Same optional filters; pages stay consistent across catalog refreshes and may be cached
+    @GetMapping(params = "!page")
+    public ResponseEntity<byte[]> getPokemonsByCursor(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size,
+                                                      @RequestParam(required = false) List<String> type,
+                                                      @RequestParam(required = false) List<String> weakTo) {
+        CursorPage page = pokemonService.fetchPokemonPage(cursor, size, new PokemonFilter(type, weakTo));
+        return json(jsonRenderer.page(page.pokemons(), page.next()), cursorPageCaching);
+    }
+
+    // Several Pokémon in one call, e.g. ?ids=1,4,7: entries in request order plus the ids that do not exist
+    @GetMapping("/batch")
+    public ResponseEntity<byte[]> getPokemonBatch(@RequestParam List<Integer> ids) {
+        BatchResult batch = pokemonService.fetchPokemonByIds(ids);
+        return json(jsonRenderer.batch(batch.pokemons(), batch.missing()));
+    }
+
+    // Same lookup with the ids as a JSON array body, for lists too long for a URL
+    @PostMapping("/batch")
+    public ResponseEntity<byte[]> postPokemonBatch(@RequestBody List<Integer> ids) {
+        return getPokemonBatch(ids);
     }
 
-    // Pagination endpoint for infinite scroll
-    @GetMapping
-    public List<Pokemon> getPokemons(@RequestParam int page, @RequestParam int size) {
-        return pokemonService.fetchPokemonPage(page, size);
+    // Search-as-you-type on names, best match first
+    @GetMapping("/search")
+    public ResponseEntity<byte[]> searchPokemons(@RequestParam String q, @RequestParam(defaultValue = "10") int limit) {
+        return json(jsonRenderer.list(pokemonService.searchPokemon(q, limit)));
+    }
+
+    // Version and age of the catalog being served
+    @GetMapping("/catalog")
+    public CatalogStatus getCatalogStatus() {
+        return pokemonService.getCatalogStatus();
+    }
+
+    // Per-tier cache hit/miss counters
+    @GetMapping("/cache")
+    public PokemonRedisStore.CacheStats getCacheStats() {
+        return pokemonService.getCacheStats();
+    }
+
+    // Whole-catalog matchup: defenders ranked by how hard this Pokémon's types hit them
+    @GetMapping("/{id}/matchups")
+    public List<Matchup> getMatchups(@PathVariable int id, @RequestParam(defaultValue = "20") int limit) {
+        return pokemonService.fetchMatchups(id, limit);
     }
 
     // Get details of a specific Pokémon by id
     @GetMapping("/{id}")
-    public Pokemon getPokemonById(@PathVariable int id) {
-        return pokemonService.fetchPokemonById(id);
+    public ResponseEntity<byte[]> getPokemonById(@PathVariable int id) {
+        return json(jsonRenderer.one(pokemonService.fetchPokemonById(id)));
+    }
+
+    private static ResponseEntity<byte[]> json(RenderedJson rendered) {
+        return json(rendered, CacheControl.empty());
+    }
+
+    // The ETag is compared against If-None-Match when the entity is written (304 on a match)
+    private static ResponseEntity<byte[]> json(RenderedJson rendered, CacheControl caching) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(caching)
+                .eTag(rendered.etag())
+                .body(rendered.body());
     }
 }
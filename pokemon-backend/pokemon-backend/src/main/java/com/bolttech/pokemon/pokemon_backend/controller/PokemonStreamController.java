@@ -0,0 +1,90 @@
+package com.bolttech.pokemon.pokemon_backend.controller;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonFilter;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonJsonRenderer;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonService;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Whole-catalog streaming endpoints: one connection instead of a request per page.
+ * The Flux is written by Spring MVC's async support one element at a time as the previous write completes,
+ * so a slow client holds back its own stream and no Tomcat request thread is parked for the length of a stream.
+ * The writes themselves are still blocking servlet writes, made on the bounded MVC async pool
+ * (see {@link com.bolttech.pokemon.pokemon_backend.config.WebAsyncConfig}): a client that stops reading holds
+ * one of its threads until Tomcat's write timeout (server.tomcat.connection-timeout) fails the write and ends
+ * its stream. Concurrent streams are therefore bounded by that pool, not by open connections.
+ */
+@CrossOrigin(origins = "*")
+@RestController
+@RequestMapping("/api/pokemons/stream")
+public class PokemonStreamController {
+
+    // Last SSE event, so EventSource clients close instead of reconnecting at the end of the catalog
+    private static final ServerSentEvent<byte[]> END = ServerSentEvent.<byte[]>builder()
+            .event("end")
+            .data("{}".getBytes(StandardCharsets.UTF_8))
+            .build();
+
+    // NDJSON lines per write: one flush per element would dominate the cost of a stream
+    private static final int LINES_PER_WRITE = 64;
+
+    private final PokemonService pokemonService;
+
+    private final PokemonJsonRenderer jsonRenderer;
+
+    public PokemonStreamController(PokemonService pokemonService, PokemonJsonRenderer jsonRenderer) {
+        this.pokemonService = pokemonService;
+        this.jsonRenderer = jsonRenderer;
+    }
+
+    // One JSON object per line; ?after=<id> resumes after the last id received
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<byte[]> streamNdjson(@RequestParam(required = false) List<String> type,
+                                     @RequestParam(required = false) List<String> weakTo,
+                                     @RequestParam(required = false) Integer after) {
+        return entries(type, weakTo, after).buffer(LINES_PER_WRITE).map(this::lines);
+    }
+
+    // One event per Pokémon with its id as event id, so a reconnect resumes from Last-Event-ID
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<byte[]>> streamEvents(@RequestParam(required = false) List<String> type,
+                                                      @RequestParam(required = false) List<String> weakTo,
+                                                      @RequestHeader(value = "Last-Event-ID", required = false) Integer lastEventId) {
+        return entries(type, weakTo, lastEventId)
+                .map(pokemon -> ServerSentEvent.builder(jsonRenderer.json(pokemon))
+                        .id(Integer.toString(pokemon.getId()))
+                        .build())
+                .concatWithValues(END);
+    }
+
+    // Lines joined with '\n'; MVC writes the newline after each element
+    private byte[] lines(List<Pokemon> pokemons) {
+        byte[][] json = new byte[pokemons.size()][];
+        int length = json.length - 1;
+        for (int i = 0; i < json.length; i++) {
+            json[i] = jsonRenderer.json(pokemons.get(i));
+            length += json[i].length;
+        }
+        byte[] chunk = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < json.length; i++) {
+            if (i > 0) chunk[offset++] = '\n';
+            System.arraycopy(json[i], 0, chunk, offset, json[i].length);
+            offset += json[i].length;
+        }
+        return chunk;
+    }
+
+    // Cold: the snapshot is read on subscribe and entries are rendered as demand reaches them
+    private Flux<Pokemon> entries(List<String> type, List<String> weakTo, Integer after) {
+        PokemonFilter filter = new PokemonFilter(type, weakTo);
+        return Flux.defer(() -> Flux.fromIterable(pokemonService.streamPokemon(filter, after == null ? -1 : after)));
+    }
+}
@@ -0,0 +1,7 @@
+package com.bolttech.pokemon.pokemon_backend.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(int requested, int limit) {
+        super("Batch of " + requested + " ids exceeds the limit of " + limit);
+    }
+}
@@ -0,0 +1,7 @@
+package com.bolttech.pokemon.pokemon_backend.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid page cursor: " + cursor);
+    }
+}
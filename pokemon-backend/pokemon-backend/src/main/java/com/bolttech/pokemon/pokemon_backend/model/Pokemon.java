@@ -1,35 +1,195 @@
 package com.bolttech.pokemon.pokemon_backend.model;
 
+import com.bolttech.pokemon.pokemon_backend.type.TypeChart;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable Pokémon entry, stored compactly and exposed through the same getters (and JSON) as before.
+ * <ul>
+ *   <li>types: one {@link TypeChart} combination code, which keeps primary/secondary order</li>
+ *   <li>weaknesses, resistances, immunities: 18-bit type masks, listed strongest first</li>
+ *   <li>sprite URLs: derived from the id when they follow the PokeAPI sprite layout</li>
+ *   <li>region: interned, so every entry of a region shares one String</li>
+ * </ul>
+ * Values that cannot be encoded that way (unknown type names, other URLs, null lists, a different order)
+ * are kept verbatim instead, so every getter returns exactly what was built.
+ */
+@JsonPropertyOrder({"id", "name", "types", "frontImage", "backImage", "region", "weaknesses", "resistances", "immunities"})
+public final class Pokemon {
+
+    private static final String SPRITE_BASE = "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/";
+
+    private static final Map<String, String> REGIONS = new ConcurrentHashMap<>();
+
+    // flags: which values are kept verbatim
+    private static final int TYPES = 1, WEAKNESSES = 2, RESISTANCES = 4, IMMUNITIES = 8, FRONT = 16, BACK = 32;
+
+    private final int id;
+    private final String name;
+    private final String region;
+    private final short typeCombo;
+    private final byte verbatimFlags;
+    private final int weaknessMask;
+    private final int resistanceMask;
+    private final int immunityMask;
+
+    // Only set when at least one value had to be kept verbatim
+    private final Verbatim verbatim;
+
+    private Pokemon(Builder b) {
+        this.id = b.id;
+        this.name = b.name;
+        this.region = b.region == null ? null : REGIONS.computeIfAbsent(b.region, r -> r);
+
+        int flags = 0;
+        int combo = encodeTypes(b.types);
+        if (combo < 0) flags |= TYPES;
+        int weak = encodeMask(b.weaknesses, combo);
+        if (weak < 0) flags |= WEAKNESSES;
+        int res = encodeMask(b.resistances, combo);
+        if (res < 0) flags |= RESISTANCES;
+        int imm = encodeMask(b.immunities, combo);
+        if (imm < 0) flags |= IMMUNITIES;
+        if (!Objects.equals(b.frontImage, frontSprite(b.id))) flags |= FRONT;
+        if (!Objects.equals(b.backImage, backSprite(b.id))) flags |= BACK;
 
-public class Pokemon {
-    private int id;
-    private String name;
-    private List<String> types;
-    private String frontImage;
-    private String backImage;
-    private String region;
-    private List<String> weaknesses;
+        this.typeCombo = (short) combo;
+        this.weaknessMask = weak;
+        this.resistanceMask = res;
+        this.immunityMask = imm;
+        this.verbatimFlags = (byte) flags;
+        this.verbatim = flags == 0 ? null : new Verbatim(
+                (flags & TYPES) != 0 ? copy(b.types) : null,
+                (flags & WEAKNESSES) != 0 ? copy(b.weaknesses) : null,
+                (flags & RESISTANCES) != 0 ? copy(b.resistances) : null,
+                (flags & IMMUNITIES) != 0 ? copy(b.immunities) : null,
+                (flags & FRONT) != 0 ? b.frontImage : null,
+                (flags & BACK) != 0 ? b.backImage : null);
+    }
 
-    // Getters & Setters
+    @JsonCreator
+    static Pokemon fromJson(@JsonProperty("id") int id, @JsonProperty("name") String name,
+                            @JsonProperty("types") List<String> types,
+                            @JsonProperty("frontImage") String frontImage, @JsonProperty("backImage") String backImage,
+                            @JsonProperty("region") String region, @JsonProperty("weaknesses") List<String> weaknesses,
+                            @JsonProperty("resistances") List<String> resistances,
+                            @JsonProperty("immunities") List<String> immunities) {
+        return builder().id(id).name(name).types(types).frontImage(frontImage).backImage(backImage)
+                .region(region).weaknesses(weaknesses).resistances(resistances).immunities(immunities).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder pre-filled with this entry, for copies with some values changed
+     */
+    public Builder toBuilder() {
+        return builder().id(id).name(name).types(getTypes()).frontImage(getFrontImage()).backImage(getBackImage())
+                .region(region).weaknesses(getWeaknesses()).resistances(getResistances()).immunities(getImmunities());
+    }
+
+    // Getters
     public int getId() { return id; }
-    public void setId(int id) { this.id = id; }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
 
-    public List<String> getTypes() { return types; }
-    public void setTypes(List<String> types) { this.types = types; }
+    public List<String> getTypes() { return isVerbatim(TYPES) ? verbatim.types() : TypeChart.names(typeCombo); }
 
-    public String getFrontImage() { return frontImage; }
-    public void setFrontImage(String frontImage) { this.frontImage = frontImage; }
+    public String getFrontImage() { return isVerbatim(FRONT) ? verbatim.frontImage() : frontSprite(id); }
 
-    public String getBackImage() { return backImage; }
-    public void setBackImage(String backImage) { this.backImage = backImage; }
+    public String getBackImage() { return isVerbatim(BACK) ? verbatim.backImage() : backSprite(id); }
 
     public String getRegion() { return region; }
-    public void setRegion(String region) { this.region = region; }
 
-    public List<String> getWeaknesses() { return weaknesses; }
-    public void setWeaknesses(List<String> weaknesses) { this.weaknesses = weaknesses; }
+    public List<String> getWeaknesses() { return isVerbatim(WEAKNESSES) ? verbatim.weaknesses() : names(weaknessMask); }
+
+    public List<String> getResistances() { return isVerbatim(RESISTANCES) ? verbatim.resistances() : names(resistanceMask); }
+
+    public List<String> getImmunities() { return isVerbatim(IMMUNITIES) ? verbatim.immunities() : names(immunityMask); }
+
+    private boolean isVerbatim(int flag) {
+        return (verbatimFlags & flag) != 0;
+    }
+
+    private List<String> names(int mask) {
+        return TypeChart.names(mask, isVerbatim(TYPES) ? TypeChart.combo(verbatim.types()) : typeCombo);
+    }
+
+    // Combination code when the list is exactly what that code lists back, -1 otherwise
+    private static int encodeTypes(List<String> types) {
+        if (types == null || types.isEmpty() || types.size() > 2) return -1;
+        int combo = TypeChart.combo(types);
+        return combo != TypeChart.NO_COMBO && TypeChart.names(combo).equals(types) ? combo : -1;
+    }
+
+    private static int encodeMask(List<String> names, int combo) {
+        if (names == null) return -1;
+        int mask = TypeChart.mask(names);
+        if (mask < 0) return -1;
+        return TypeChart.names(mask, combo < 0 ? TypeChart.NO_COMBO : combo).equals(names) ? mask : -1;
+    }
+
+    private static List<String> copy(List<String> values) {
+        return values == null ? null : Collections.unmodifiableList(new ArrayList<>(values));
+    }
+
+    private static String frontSprite(int id) {
+        return SPRITE_BASE + id + ".png";
+    }
+
+    private static String backSprite(int id) {
+        return SPRITE_BASE + "back/" + id + ".png";
+    }
+
+    private record Verbatim(List<String> types, List<String> weaknesses, List<String> resistances,
+                            List<String> immunities, String frontImage, String backImage) {
+    }
+
+    public static final class Builder {
+        private int id;
+        private String name;
+        private List<String> types;
+        private String frontImage;
+        private String backImage;
+        private String region;
+        private List<String> weaknesses;
+        private List<String> resistances;
+        private List<String> immunities;
+
+        private Builder() {
+        }
+
+        public Builder id(int id) { this.id = id; return this; }
+
+        public Builder name(String name) { this.name = name; return this; }
+
+        public Builder types(List<String> types) { this.types = types; return this; }
+
+        public Builder frontImage(String frontImage) { this.frontImage = frontImage; return this; }
+
+        public Builder backImage(String backImage) { this.backImage = backImage; return this; }
+
+        public Builder region(String region) { this.region = region; return this; }
+
+        public Builder weaknesses(List<String> weaknesses) { this.weaknesses = weaknesses; return this; }
+
+        public Builder resistances(List<String> resistances) { this.resistances = resistances; return this; }
+
+        public Builder immunities(List<String> immunities) { this.immunities = immunities; return this; }
+
+        public Pokemon build() {
+            return new Pokemon(this);
+        }
+    }
 }
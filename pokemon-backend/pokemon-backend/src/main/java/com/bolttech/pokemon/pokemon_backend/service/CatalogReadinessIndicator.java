@@ -0,0 +1,38 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * "catalog" health contributor, part of the readiness group: out of service until
+ * a real (non-placeholder) catalog is published. Liveness does not depend on it.
+ */
+@Component("catalog")
+public class CatalogReadinessIndicator implements HealthIndicator {
+
+    private final PokemonCatalog catalog;
+
+    private final CatalogWarmup warmup;
+
+    public CatalogReadinessIndicator(PokemonCatalog catalog, CatalogWarmup warmup) {
+        this.catalog = catalog;
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Health health() {
+        CatalogSnapshot snapshot = catalog.current();
+        Health.Builder health = snapshot.isEmpty() || snapshot.isFallback() ? Health.outOfService() : Health.up();
+        return health
+                .withDetail("version", snapshot.getVersion())
+                .withDetail("size", snapshot.size())
+                .withDetail("fallback", snapshot.isFallback())
+                .withDetail("warmingUp", warmup.isRunning())
+                .withDetail("startupMillis", warmup.getStartupMillis())
+                .withDetail("warmupMillis", warmup.getWarmupMillis())
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Loads the catalog in the background once the application is up, so the HTTP server
+ * does not wait on PokeAPI. Readiness is reported by {@link CatalogReadinessIndicator}.
+ */
+@Component
+public class CatalogWarmup {
+
+    private final PokemonService pokemonService;
+
+    private volatile long startupMillis = -1;
+
+    private volatile long warmupMillis = -1;
+
+    private volatile boolean running;
+
+    public CatalogWarmup(PokemonService pokemonService) {
+        this.pokemonService = pokemonService;
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        start(event.getTimeTaken());
+    }
+
+    /**
+     * Record how long the context took to start and kick off the warm-up on its own thread
+     */
+    public Thread start(Duration startupTime) {
+        startupMillis = startupTime == null ? -1 : startupTime.toMillis();
+        running = true;
+        Thread thread = new Thread(this::warmUp, "pokemon-warmup");
+        thread.setDaemon(true);
+        thread.start();
+        return thread;
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            pokemonService.preLoadCache();
+        } catch (RuntimeException e) {
+            System.err.println("Catalog warm-up failed: " + e.getMessage());
+        } finally {
+            warmupMillis = (System.nanoTime() - start) / 1_000_000;
+            running = false;
+            System.out.println("Catalog warm-up took " + warmupMillis + " ms (application startup took " + startupMillis + " ms)");
+        }
+    }
+
+    /** Context startup until the server accepted connections; -1 before that */
+    public long getStartupMillis() { return startupMillis; }
+
+    /** First catalog load after startup; -1 while it is still running */
+    public long getWarmupMillis() { return warmupMillis; }
+
+    public boolean isRunning() { return running; }
+}
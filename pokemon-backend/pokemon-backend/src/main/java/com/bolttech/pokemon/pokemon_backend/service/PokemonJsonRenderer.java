@@ -0,0 +1,199 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * JSON response bodies rendered once per published catalog version.
+ * Entries of the current snapshot are written from stored bytes; anything else (Pokémon read from
+ * Redis while this node is on placeholder data) is serialized on the spot.
+ * Every body carries a strong ETag derived from its content, so it is the same on every node.
+ */
+@Component
+public class PokemonJsonRenderer {
+
+    private static final byte[] NOTHING = new byte[0];
+
+    private static final byte[] PAGE_HEAD = "{\"pokemons\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+
+    private final PokemonCatalog catalog;
+
+    private volatile Rendered rendered = new Rendered(CatalogSnapshot.empty(), new byte[0][], new long[0]);
+
+    public PokemonJsonRenderer(ObjectMapper objectMapper, PokemonCatalog catalog) {
+        this.objectMapper = objectMapper;
+        this.catalog = catalog;
+    }
+
+    /**
+     * Render the new snapshot on the publishing thread, before the first request asks for it
+     */
+    @EventListener
+    public void onCatalogPublished(CatalogPublishedEvent event) {
+        rendered(event.snapshot());
+    }
+
+    /**
+     * Body and ETag of a single Pokémon
+     */
+    public RenderedJson one(Pokemon pokemon) {
+        Rendered current = rendered(catalog.current());
+        if (current.holds(pokemon)) {
+            int id = pokemon.getId();
+            return new RenderedJson(current.json[id], etag(current.hashes[id]));
+        }
+        byte[] json = serialize(pokemon);
+        return new RenderedJson(json, etag(hash(json)));
+    }
+
+    /**
+     * JSON of a single Pokémon without an ETag, for streamed entries
+     */
+    public byte[] json(Pokemon pokemon) {
+        Rendered current = rendered(catalog.current());
+        return current.holds(pokemon) ? current.json[pokemon.getId()] : serialize(pokemon);
+    }
+
+    /**
+     * Body and ETag of a JSON array, assembled from the rendered entries with a single copy.
+     * The ETag combines the entry hashes in order, so the body is never hashed per request.
+     */
+    public RenderedJson list(List<Pokemon> pokemons) {
+        return array(pokemons, NOTHING, NOTHING);
+    }
+
+    /**
+     * Body and ETag of a cursor page: {@code {"pokemons":[...],"next":"<cursor>"}}, next is null on the last page
+     */
+    public RenderedJson page(List<Pokemon> pokemons, String next) {
+        String tail = ",\"next\":" + (next == null ? "null" : "\"" + next + "\"") + "}";
+        return array(pokemons, PAGE_HEAD, tail.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Body and ETag of a batch lookup: {@code {"pokemons":[...],"missing":[ids]}}
+     */
+    public RenderedJson batch(List<Pokemon> pokemons, List<Integer> missing) {
+        StringBuilder tail = new StringBuilder(",\"missing\":[");
+        for (int i = 0; i < missing.size(); i++) {
+            if (i > 0) tail.append(',');
+            tail.append(missing.get(i));
+        }
+        return array(pokemons, PAGE_HEAD, tail.append("]}").toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // prefix + JSON array of the entries + suffix; the suffix is hashed into the ETag
+    private RenderedJson array(List<Pokemon> pokemons, byte[] prefix, byte[] suffix) {
+        Rendered current = rendered(catalog.current());
+        int count = pokemons.size();
+        byte[][] parts = new byte[count][];
+        long combined = suffix.length == 0 ? count : count ^ hash(suffix);
+        int length = prefix.length + 2 + Math.max(0, count - 1) + suffix.length;
+        for (int i = 0; i < count; i++) {
+            Pokemon pokemon = pokemons.get(i);
+            long hash;
+            if (current.holds(pokemon)) {
+                parts[i] = current.json[pokemon.getId()];
+                hash = current.hashes[pokemon.getId()];
+            } else {
+                parts[i] = serialize(pokemon);
+                hash = hash(parts[i]);
+            }
+            combined = (Long.rotateLeft(combined, 31) ^ hash) * 0x9E3779B97F4A7C15L;
+            length += parts[i].length;
+        }
+
+        byte[] body = new byte[length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        int offset = prefix.length;
+        body[offset++] = '[';
+        for (int i = 0; i < count; i++) {
+            if (i > 0) body[offset++] = ',';
+            System.arraycopy(parts[i], 0, body, offset, parts[i].length);
+            offset += parts[i].length;
+        }
+        body[offset++] = ']';
+        System.arraycopy(suffix, 0, body, offset, suffix.length);
+        return new RenderedJson(body, etag(combined));
+    }
+
+    // Rendering of this snapshot, made now if the event was missed (a restored snapshot is not announced)
+    private Rendered rendered(CatalogSnapshot snapshot) {
+        Rendered current = rendered;
+        if (current.snapshot == snapshot) return current;
+        synchronized (this) {
+            current = rendered;
+            if (current.snapshot != snapshot) {
+                current = render(snapshot);
+                rendered = current;
+            }
+            return current;
+        }
+    }
+
+    private Rendered render(CatalogSnapshot snapshot) {
+        int maxId = 0;
+        for (Pokemon pokemon : snapshot.all()) maxId = Math.max(maxId, pokemon.getId());
+        byte[][] json = new byte[maxId + 1][];
+        long[] hashes = new long[maxId + 1];
+        for (Pokemon pokemon : snapshot.all()) {
+            byte[] bytes = serialize(pokemon);
+            json[pokemon.getId()] = bytes;
+            hashes[pokemon.getId()] = hash(bytes);
+        }
+        return new Rendered(snapshot, json, hashes);
+    }
+
+    private byte[] serialize(Pokemon pokemon) {
+        try {
+            return objectMapper.writeValueAsBytes(pokemon);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render Pokemon " + pokemon.getId(), e);
+        }
+    }
+
+    // First 64 bits of the MD5 of the body, plenty to tell versions of one resource apart
+    private static long hash(byte[] json) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("MD5").digest(json)).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+
+    private static String etag(long hash) {
+        return String.format("\"%016x\"", hash);
+    }
+
+    /**
+     * Pre-rendered bytes of one snapshot, indexed by Pokémon id
+     */
+    private record Rendered(CatalogSnapshot snapshot, byte[][] json, long[] hashes) {
+
+        // Only the exact instance published in this snapshot has these bytes
+        boolean holds(Pokemon pokemon) {
+            int id = pokemon.getId();
+            return id >= 0 && id < json.length && json[id] != null && snapshot.get(id) == pokemon;
+        }
+    }
+
+    /**
+     * A response body ready to write, with its strong ETag (quoted)
+     */
+    public record RenderedJson(byte[] body, String etag) {
+    }
+}
@@ -1,116 +1,337 @@
 package com.bolttech.pokemon.pokemon_backend.service;
 
+import com.bolttech.pokemon.pokemon_backend.cache.IngestionCheckpoint;
+import com.bolttech.pokemon.pokemon_backend.cache.PokemonRedisStore;
+import com.bolttech.pokemon.pokemon_backend.cache.RefreshLease;
+import com.bolttech.pokemon.pokemon_backend.cache.SharedCatalogChangedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.BatchResult;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogStatus;
+import com.bolttech.pokemon.pokemon_backend.catalog.CursorPage;
+import com.bolttech.pokemon.pokemon_backend.catalog.IngestionFailure;
+import com.bolttech.pokemon.pokemon_backend.catalog.IngestionReport;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.catalog.PageCursor;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonFilter;
+import com.bolttech.pokemon.pokemon_backend.client.FetchResult;
+import com.bolttech.pokemon.pokemon_backend.client.PokeApiClient;
+import com.bolttech.pokemon.pokemon_backend.client.PokemonPayload;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.config.IngestionExecutorConfig;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.exception.BatchTooLargeException;
 import com.bolttech.pokemon.pokemon_backend.exception.PokemonNotFoundException;
 import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
-import jakarta.annotation.PostConstruct;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import com.bolttech.pokemon.pokemon_backend.type.Matchup;
+import com.bolttech.pokemon.pokemon_backend.type.TypeChart;
+import com.bolttech.pokemon.pokemon_backend.type.TypeProfile;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 
 @Service
-public class PokemonService {
+public class PokemonService implements MeterBinder {
 
-    private final RestTemplate restTemplate;
+    // Upper bound on one search response, whatever limit the client asks for
+    private static final int MAX_SEARCH_RESULTS = 50;
 
-    private  final ObjectMapper objectMapper;
+    // Upper bound on one cursor page
+    private static final int MAX_CURSOR_PAGE_SIZE = 200;
 
-    public PokemonService(RestTemplate restTemplate, ObjectMapper objectMapper) {
-        this.restTemplate = restTemplate;
-        this.objectMapper = objectMapper;
-    }
+    private final PokeApiClient pokeApiClient;
+
+    private final PokemonCatalog catalog;
+
+    private final PokemonProperties properties;
+
+    private final Executor ingestionExecutor;
+
+    private final PokemonRedisStore redisStore;
+
+    private final IngestionCheckpoint checkpoint;
+
+    // Decides which replica rebuilds; the others adopt the catalog it shares through Redis
+    private final RefreshLease lease;
+
+    // Species id -> region, loaded from PokeAPI generations once per process
+    private volatile Map<Integer, String> regionsBySpecies = Map.of();
+
+    // Guards against overlapping rebuilds (scheduler + manual trigger)
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private volatile long lastRefreshEpochMs;
+
+    private volatile String lastRefreshOutcome = "never";
 
-    private static final String POKEAPI_BASE_URL = "https://pokeapi.co/api/v2/pokemon";
+    private volatile IngestionReport lastIngestion = IngestionReport.NONE;
 
-//    Limit to first 150 Pokémon for MVP
-    private static final int TOTAL_POKEMON = 150; // First generation only for MVP
+    // Completed ingestion runs, their total time and entries by outcome; exported as metrics
+    private final LongAdder ingestionRuns = new LongAdder();
+
+    private final LongAdder ingestionMillis = new LongAdder();
+
+    private final Map<Outcome, LongAdder> ingested = new EnumMap<>(Outcome.class);
+
+    private final LongAdder ingestionTimeouts = new LongAdder();
+
+    public PokemonService(PokeApiClient pokeApiClient, PokemonCatalog catalog, PokemonProperties properties,
+                          @Qualifier(IngestionExecutorConfig.INGESTION_EXECUTOR) Executor ingestionExecutor,
+                          PokemonRedisStore redisStore, IngestionCheckpoint checkpoint, RefreshLease lease) {
+        this.pokeApiClient = pokeApiClient;
+        this.catalog = catalog;
+        this.properties = properties;
+        this.ingestionExecutor = ingestionExecutor;
+        this.redisStore = redisStore;
+        this.checkpoint = checkpoint;
+        this.lease = lease;
+        for (Outcome outcome : Outcome.values()) ingested.put(outcome, new LongAdder());
+    }
 
     /**
-     * Pre-load cache on app start
+     * Pre-load cache on app start (run in the background by {@link CatalogWarmup})
      */
-    @PostConstruct
     public void preLoadCache() {
-        fetchAllPokemon();
+        rebuildCatalog();
     }
 
     /**
-     * Fetch all Pokémon data from PokeAPI (cached)
+     * Fetch every Pokémon in the configured id range from PokeAPI, batch by batch; ids that fail are left out
+     * and listed in the report with their reason.
+     * Entries of the published catalog are revalidated with conditional requests and reused when unchanged.
+     * Progress is checkpointed after each batch, and ids an interrupted run already fetched are not fetched again.
+     * The run stops early if heartbeat, called between batches, returns false.
      */
-    @Cacheable("pokemonCache")
-    public List<Pokemon> fetchAllPokemon() {
-        List<CompletableFuture<Pokemon>> futures = new ArrayList<>();
+    private Ingestion ingestAll(BooleanSupplier heartbeat) {
+        long started = System.nanoTime();
+        PokemonProperties.Ingestion config = properties.getIngestion();
+        long timeoutMillis = callTimeoutMillis(properties);
+        int firstId = config.getFirstId();
+        int lastId = config.getLastId();
+        int requested = Math.max(0, lastId - firstId + 1);
+        int batchSize = Math.max(1, config.getBatchSize());
+        CatalogSnapshot previous = catalog.current();
+        CatalogSnapshot resumedRun = checkpoint.resume();
+        Instant runStartedAt = resumedRun.isEmpty() ? Instant.now() : resumedRun.getPublishedAt();
+        Map<Integer, String> regions = regions();
 
-        for (int i = 1; i <= TOTAL_POKEMON; i++) {
-            int id = i;
-            futures.add(CompletableFuture.supplyAsync(() -> fetchPokemonFromAPI(id)));
-        }
+        List<Pokemon> pokemons = new ArrayList<>(requested);
+        Map<Integer, ResourceValidators> validators = new HashMap<>();
+        List<IngestionFailure> failures = new ArrayList<>();
+        int unchanged = 0;
+        int resumed = 0;
+        int timedOut = 0;
 
-        // Collect results after all parallel calls finish
-        List<Pokemon> pokemons = futures.stream()
-                .map(CompletableFuture::join)
-                .filter(Objects::nonNull)
-                .toList();
+        for (int batchStart = firstId; batchStart <= lastId; batchStart += batchSize) {
+            int batchEnd = (int) Math.min((long) batchStart + batchSize - 1, lastId);
+            List<CompletableFuture<Fetched>> futures = new ArrayList<>(batchSize);
 
-        // Fallback if API fails completely
-        if (pokemons.isEmpty()) return getPlaceholderData();
+            for (int i = batchStart; i <= batchEnd; i++) {
+                int id = i;
+                Pokemon done = resumedRun.get(id);
+                if (done != null) {
+                    futures.add(CompletableFuture.completedFuture(new Fetched(done, resumedRun.validators(id), Outcome.RESUMED)));
+                    continue;
+                }
+                futures.add(fetchAsync(id, previous, regions, timeoutMillis)
+                        .exceptionally(e -> callFailed(id, e, timeoutMillis)));
+            }
 
-        return pokemons;
+            // Collect the batch before starting the next one
+            for (CompletableFuture<Fetched> future : futures) {
+                Fetched fetched = future.join();
+                if (fetched.outcome() == Outcome.FAILED) {
+                    failures.add(fetched.failure());
+                    if (fetched.timedOut()) timedOut++;
+                    continue;
+                }
+                pokemons.add(fetched.pokemon());
+                if (fetched.validators() != null) validators.put(fetched.pokemon().getId(), fetched.validators());
+                if (fetched.outcome() == Outcome.UNCHANGED) unchanged++;
+                if (fetched.outcome() == Outcome.RESUMED) resumed++;
+            }
+            if (batchEnd < lastId) {
+                checkpoint.save(pokemons, validators, runStartedAt);
+                if (!heartbeat.getAsBoolean()) {
+                    System.err.println("Stopping ingestion after Pokemon ID " + batchEnd + ", refresh lease lost");
+                    break;
+                }
+            }
+        }
+        if (pokemons.size() + failures.size() >= requested) checkpoint.clear();
+
+        IngestionReport report = new IngestionReport(requested, pokemons.size() - unchanged - resumed, unchanged, resumed,
+                requested - pokemons.size(), timedOut, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started), failures);
+        lastIngestion = report;
+        ingestionRuns.increment();
+        ingestionMillis.add(report.durationMillis());
+        for (Outcome outcome : Outcome.values()) ingested.get(outcome).add(count(report, outcome));
+        ingestionTimeouts.add(report.timedOut());
+        System.out.println("Ingested Pokemon: " + report);
+        System.out.println("Upstream " + pokeApiClient.stats());
+        return new Ingestion(pokemons, validators, report);
     }
 
     /**
-     * Fetch single Pokemon from PokeAPI
+     * Species -> region map, fetched until it has been loaded once (regions of released species never change)
      */
-    private Pokemon fetchPokemonFromAPI(int id) {
+    private Map<Integer, String> regions() {
+        if (!regionsBySpecies.isEmpty()) return regionsBySpecies;
         try {
-            String url = POKEAPI_BASE_URL + "/" + id;
-            String response = restTemplate.getForObject(url, String.class);
+            Map<Integer, String> loaded = new HashMap<>();
+            pokeApiClient.fetchRegionsBySpecies().forEach((species, region) -> loaded.put(species, capitalize(region)));
+            regionsBySpecies = Map.copyOf(loaded);
+        } catch (Exception e) {
+            System.err.println("Error fetching regions: " + e.getMessage());
+        }
+        return regionsBySpecies;
+    }
 
-            JsonNode pokemonNode = objectMapper.readTree(response);
+    /**
+     * Fetch single Pokemon from PokeAPI, conditionally when the published catalog already has it
+     */
+    private Fetched fetchPokemonFromAPI(int id, CatalogSnapshot previous, Map<Integer, String> regions) {
+        try {
+            Pokemon known = previous.isFallback() ? null : previous.get(id);
+            ResourceValidators knownValidators = known == null ? null : previous.validators(id);
 
-            Pokemon p = new Pokemon();
-            p.setId(id);
-            p.setName(capitalize(pokemonNode.get("name").asText()));
+            FetchResult result = pokeApiClient.fetchPokemon(id, knownValidators);
+            if (result.notModified()) {
+                // Entries stored before regions or type profiles were derived pick them up now
+                String region = region(regions, result.validators().speciesId(), id, known.getRegion());
+                TypeProfile profile = TypeChart.profile(known.getTypes());
+                if (Objects.equals(region, known.getRegion()) && hasProfile(known, profile)) {
+                    return new Fetched(known, result.validators(), Outcome.UNCHANGED);
+                }
+                return new Fetched(rederived(known, region, profile), result.validators(), Outcome.UPDATED);
+            }
 
-            JsonNode sprites = pokemonNode.get("sprites");
-            p.setFrontImage(sprites.get("front_default").asText());
-            p.setBackImage(sprites.get("back_default").asText());
+            PokemonPayload payload = result.payload();
+            List<String> types = payload.types();
 
-            List<String> types = new ArrayList<>();
-            pokemonNode.get("types").forEach(t -> types.add(t.get("type").get("name").asText()));
-            p.setTypes(types);
+            String region = region(regions, payload.speciesId(), id, known != null ? known.getRegion() : "Unknown");
 
-            p.setRegion("Kanto"); // First 150 are Kanto
-            p.setWeaknesses(getSimpleWeaknesses(types));
+            Pokemon p = withProfile(Pokemon.builder()
+                    .id(id)
+                    .name(capitalize(payload.name()))
+                    .frontImage(payload.frontImage())
+                    .backImage(payload.backImage())
+                    .types(types)
+                    .region(region), TypeChart.profile(types))
+                    .build();
 
-            return p;
+            return new Fetched(p, result.validators(), Outcome.UPDATED);
         } catch (Exception e) {
             System.err.println("Error fetching Pokemon ID " + id + ": " + e.getMessage());
-            return null;
+            return Fetched.failed(id, reason(e), isTimeout(e));
         }
     }
 
     /**
-     * Simple weaknesses mapping for MVP
+     * One call on the ingestion executor, timed from when it starts running. Past the timeout it completes with a
+     * TimeoutException and the call is interrupted, which stops its retries and rate-limit wait and gives back its
+     * thread or concurrency slot (a blocking socket read still ends at the upstream read or total timeout).
      */
-    private List<String> getSimpleWeaknesses(List<String> types) {
-        List<String> weaknesses = new ArrayList<>();
-        for (String type : types) {
-            switch (type.toLowerCase()) {
-                case "fire" -> weaknesses.add("water");
-                case "water" -> weaknesses.add("electric");
-                case "grass" -> weaknesses.add("fire");
-                case "electric" -> weaknesses.add("ground");
-                case "psychic" -> weaknesses.add("ghost");
-                case "rock" -> weaknesses.add("water");
-                default -> weaknesses.add("normal");
+    private CompletableFuture<Fetched> fetchAsync(int id, CatalogSnapshot previous, Map<Integer, String> regions,
+                                                  long timeoutMillis) {
+        Thread submitter = Thread.currentThread();
+        AtomicBoolean ranHere = new AtomicBoolean();
+        CompletableFuture<Fetched> call = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            ranHere.set(Thread.currentThread() == submitter);
+            call.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                call.complete(fetchPokemonFromAPI(id, previous, regions));
+            } catch (Throwable e) {
+                call.completeExceptionally(e);
             }
+        }, null);
+        call.whenComplete((fetched, e) -> {
+            if (e != null) task.cancel(true);
+        });
+        ingestionExecutor.execute(task);
+        // Run by this thread (caller-runs on a full queue): the timeout interrupted the call, not the ingestion run
+        if (ranHere.get() && task.isCancelled()) Thread.interrupted();
+        return call;
+    }
+
+    /**
+     * Configured call timeout, or by default the longest a call may legitimately take:
+     * every attempt running to the upstream total timeout, with the longest backoff between attempts
+     */
+    static long callTimeoutMillis(PokemonProperties properties) {
+        Duration configured = properties.getIngestion().getCallTimeout();
+        if (configured != null && !configured.isZero() && !configured.isNegative()) return configured.toMillis();
+        int attempts = Math.max(1, properties.getResilience().getMaxAttempts());
+        return attempts * properties.getUpstream().getTotalTimeout().toMillis()
+                + (attempts - 1) * properties.getResilience().getBackoffMax().toMillis();
+    }
+
+    // The task itself failed to complete: the ingestion call timeout fired, or the executor refused it
+    private static Fetched callFailed(int id, Throwable e, long timeoutMillis) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof TimeoutException) {
+            System.err.println("Timed out fetching Pokemon ID " + id + " after " + timeoutMillis + " ms");
+            return Fetched.failed(id, "timed out after " + timeoutMillis + " ms", true);
+        }
+        System.err.println("Error fetching Pokemon ID " + id + ": " + reason(cause));
+        return Fetched.failed(id, reason(cause), false);
+    }
+
+    private static String reason(Throwable e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    // Read, request or call timeout anywhere in the cause chain
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException || t instanceof HttpTimeoutException || t instanceof TimeoutException) return true;
         }
-        return weaknesses;
+        return false;
+    }
+
+    // Region by species, so alternate forms (ids 10001+) share their species' region; by id when the species is unknown
+    private static String region(Map<Integer, String> regions, int speciesId, int id, String otherwise) {
+        return regions.getOrDefault(speciesId > 0 ? speciesId : id, otherwise);
+    }
+
+    private static Pokemon rederived(Pokemon source, String region, TypeProfile profile) {
+        return withProfile(source.toBuilder().region(region), profile).build();
+    }
+
+    /**
+     * Weaknesses, resistances and immunities from the type chart
+     */
+    private static Pokemon.Builder withProfile(Pokemon.Builder pokemon, TypeProfile profile) {
+        return pokemon.weaknesses(profile.weaknesses())
+                .resistances(profile.resistances())
+                .immunities(profile.immunities());
+    }
+
+    private static boolean hasProfile(Pokemon p, TypeProfile profile) {
+        return profile.weaknesses().equals(p.getWeaknesses())
+                && profile.resistances().equals(p.getResistances())
+                && profile.immunities().equals(p.getImmunities());
     }
 
     /**
@@ -127,48 +348,362 @@ public class PokemonService {
     private List<Pokemon> getPlaceholderData() {
         List<Pokemon> pokemons = new ArrayList<>();
         for (int i = 1; i <= 10; i++) {
-            Pokemon p = new Pokemon();
-            p.setId(i);
-            p.setName("Pokemon " + i);
-            p.setFrontImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + i + ".png");
-            p.setBackImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/back/" + i + ".png");
-            p.setTypes(List.of("normal"));
-            p.setRegion("Unknown");
-            p.setWeaknesses(List.of("fighting"));
+            List<String> types = List.of("normal");
+            Pokemon p = withProfile(Pokemon.builder()
+                    .id(i)
+                    .name("Pokemon " + i)
+                    .frontImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + i + ".png")
+                    .backImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/back/" + i + ".png")
+                    .types(types)
+                    .region("Unknown"), TypeChart.profile(types))
+                    .build();
             pokemons.add(p);
         }
         return pokemons;
     }
 
     /**
-     * Fetch Pokémon by page for infinite scroll
+     * Fetch Pokémon by page for infinite scroll (served from the published snapshot, no upstream I/O).
+     * A node still on placeholder data serves the catalog another node wrote to Redis, if any.
      */
     public List<Pokemon> fetchPokemonPage(int page, int size) {
-        List<Pokemon> all = fetchAllPokemon();
-        int from = page * size;
-        int to = Math.min(from + size, all.size());
-        if (from >= all.size()) return new ArrayList<>();
-        return all.subList(from, to);
+        CatalogSnapshot snapshot = catalog.current();
+        if (servesLocally(snapshot)) return snapshot.page(page, size);
+
+        try {
+            List<Pokemon> shared = redisStore.page(page, size);
+            if (!shared.isEmpty()) return shared;
+        } catch (RuntimeException e) {
+            System.err.println("Error reading Pokemon page from Redis: " + e.getMessage());
+        }
+        return snapshot.page(page, size);
+    }
+
+    /**
+     * Page of the Pokémon matching a type/weakness filter, paged after filtering.
+     * Filters are answered from the local snapshot's indexes; Redis only stores unfiltered pages,
+     * so a node still on placeholder data filters the placeholders.
+     */
+    public List<Pokemon> fetchPokemonPage(int page, int size, PokemonFilter filter) {
+        if (filter.isEmpty()) return fetchPokemonPage(page, size);
+        return catalog.current().page(filter, page, size);
     }
 
     /**
-     * Fetch Pokémon by ID
+     * Cursor page: up to size Pokémon after the position in the cursor (from the start when it is null),
+     * plus the cursor for the page after. Keyset on id, so a catalog published between two pages
+     * neither repeats nor skips entries that are in both versions. Served from the local snapshot.
+     */
+    public CursorPage fetchPokemonPage(String cursor, int size, PokemonFilter filter) {
+        CatalogSnapshot snapshot = catalog.current();
+        int afterId = cursor == null || cursor.isBlank() ? -1 : PageCursor.decode(cursor).afterId();
+        int limit = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+        if (limit <= 0) return new CursorPage(List.of(), null);
+
+        // One extra entry tells whether there is a next page without an empty last request
+        List<Pokemon> window = snapshot.after(filter, afterId, limit + 1);
+        if (window.size() <= limit) return new CursorPage(window, null);
+        List<Pokemon> page = window.subList(0, limit);
+        String next = new PageCursor(snapshot.getVersion(), page.get(limit - 1).getId()).encode();
+        return new CursorPage(page, next);
+    }
+
+    /**
+     * Every Pokémon matching the filter with an id above afterId, in id order, all from one snapshot.
+     * Backs the streaming endpoints; served from the local snapshot.
+     */
+    public List<Pokemon> streamPokemon(PokemonFilter filter, int afterId) {
+        return catalog.current().after(filter, afterId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Search-as-you-type on names: prefix matches first, then close typos, at most limit results.
+     * Served from the name index of the local snapshot.
+     */
+    public List<Pokemon> searchPokemon(String query, int limit) {
+        return catalog.current().search(query, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
+
+    /**
+     * Defenders across the catalog ranked by how hard the given Pokémon's own types hit them
+     */
+    public List<Matchup> fetchMatchups(int attackerId, int limit) {
+        Pokemon attacker = fetchPokemonById(attackerId);
+        List<String> types = attacker.getTypes() == null ? List.of() : attacker.getTypes();
+        return catalog.current().matchups(types, limit);
+    }
+
+    /**
+     * Fetch Pokémon by ID (O(1) lookup in the published snapshot, single Redis GET while on placeholder data)
      */
     public Pokemon fetchPokemonById(int id) {
-        return fetchAllPokemon().stream()
-                .filter(p -> p.getId() == id)
-                .findFirst()
-                .orElseThrow(() -> new PokemonNotFoundException(id));
+        CatalogSnapshot snapshot = catalog.current();
+        Pokemon pokemon = servesLocally(snapshot) ? snapshot.get(id) : sharedOrLocal(snapshot, id);
+        if (pokemon == null) throw new PokemonNotFoundException(id);
+        return pokemon;
+    }
+
+    /**
+     * Several Pokémon at once, up to the configured limit of distinct ids. Found entries come back in request
+     * order (repeated ids once) and unknown ids are listed instead of failing the call.
+     * One index lookup per id locally, a single Redis MGET while on placeholder data.
+     */
+    public BatchResult fetchPokemonByIds(List<Integer> ids) {
+        int[] wanted = ids.stream().filter(Objects::nonNull).mapToInt(Integer::intValue).distinct().toArray();
+        int limit = properties.getHttp().getBatchMaxIds();
+        if (wanted.length > limit) throw new BatchTooLargeException(wanted.length, limit);
+
+        CatalogSnapshot snapshot = catalog.current();
+        Pokemon[] found = servesLocally(snapshot) ? new Pokemon[wanted.length] : sharedOrLocal(snapshot, wanted);
+        List<Pokemon> pokemons = new ArrayList<>(wanted.length);
+        List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < wanted.length; i++) {
+            Pokemon pokemon = found[i] != null ? found[i] : snapshot.get(wanted[i]);
+            if (pokemon != null) pokemons.add(pokemon);
+            else missing.add(wanted[i]);
+        }
+        return new BatchResult(pokemons, missing);
+    }
+
+    private static boolean servesLocally(CatalogSnapshot snapshot) {
+        return !snapshot.isEmpty() && !snapshot.isFallback();
+    }
+
+    private Pokemon sharedOrLocal(CatalogSnapshot snapshot, int id) {
+        try {
+            Pokemon shared = redisStore.get(id);
+            if (shared != null) return shared;
+        } catch (RuntimeException e) {
+            System.err.println("Error reading Pokemon " + id + " from Redis: " + e.getMessage());
+        }
+        return snapshot.get(id);
+    }
+
+    // Shared entries in one round trip; the caller falls back to the local snapshot for the gaps
+    private Pokemon[] sharedOrLocal(CatalogSnapshot snapshot, int[] ids) {
+        try {
+            return redisStore.getAll(ids);
+        } catch (RuntimeException e) {
+            System.err.println("Error reading " + ids.length + " Pokemon from Redis: " + e.getMessage());
+            return new Pokemon[ids.length];
+        }
     }
 
     /**
-     * Scheduled cache refresh every hour
+     * Scheduled cache refresh (stale-while-revalidate: the previous catalog keeps serving until the rebuild
+     * is complete). Every replica checks each minute, but only once the catalog is older than the refresh
+     * interval, and only the holder of the refresh lease rebuilds. The first load is the startup warm-up.
      */
-    @Scheduled(fixedRate = 3600000)
-    @CacheEvict(value = "pokemonCache", allEntries = true)
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
     public void refreshCache() {
+        if (!refreshDue(catalog.current())) return;
         System.out.println("Refreshing Pokemon cache...");
-        fetchAllPokemon();
+        rebuildCatalog();
+    }
+
+    /**
+     * Another node wrote a newer catalog to Redis: serve it instead of rebuilding
+     */
+    @EventListener
+    public void onSharedCatalogChanged(SharedCatalogChangedEvent event) {
+        if (adoptShared()) {
+            System.out.println("Adopted catalog version " + catalog.current().getVersion()
+                    + " (Redis generation " + event.generation() + ")");
+        }
+    }
+
+    /**
+     * Published catalog version and age
+     */
+    public CatalogStatus getCatalogStatus() {
+        CatalogSnapshot snapshot = catalog.current();
+        long publishedAt = snapshot.getPublishedAt().toEpochMilli();
+        long ageSeconds = snapshot.getVersion() == 0 ? 0 : (System.currentTimeMillis() - publishedAt) / 1000;
+        return new CatalogStatus(snapshot.getVersion(), snapshot.size(), publishedAt, ageSeconds,
+                snapshot.isFallback(), refreshing.get(), lastRefreshEpochMs, lastRefreshOutcome, lastIngestion);
+    }
+
+    /**
+     * Ingestion runs, entries per outcome and the state of the last run and of the refresh
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("pokemon.ingestion.runs", this, s -> s.ingestionRuns.sum(), s -> s.ingestionMillis.sum(),
+                        TimeUnit.MILLISECONDS)
+                .description("Catalog ingestion runs and the time they took").register(registry);
+        TimeGauge.builder("pokemon.ingestion.last.duration", this, TimeUnit.MILLISECONDS, s -> s.lastIngestion.durationMillis())
+                .description("Duration of the last ingestion run").register(registry);
+        for (Outcome outcome : Outcome.values()) {
+            String result = outcome.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("pokemon.ingestion.entries", ingested.get(outcome), LongAdder::sum)
+                    .description("Pokemon ingested by result, across runs").tag("result", result).register(registry);
+            Gauge.builder("pokemon.ingestion.last.entries", this, s -> count(s.lastIngestion, outcome))
+                    .description("Pokemon ingested by result in the last run").tag("result", result).register(registry);
+        }
+        FunctionCounter.builder("pokemon.ingestion.timeouts", ingestionTimeouts, LongAdder::sum)
+                .description("Pokemon whose fetch timed out, across runs (included in result=failed)").register(registry);
+        Gauge.builder("pokemon.refresh.running", refreshing, r -> r.get() ? 1 : 0)
+                .description("1 while a refresh runs on this node").register(registry);
+    }
+
+    private static long count(IngestionReport report, Outcome outcome) {
+        return switch (outcome) {
+            case UPDATED -> report.updated();
+            case UNCHANGED -> report.unchanged();
+            case RESUMED -> report.resumed();
+            case FAILED -> report.failed();
+        };
+    }
+
+    /**
+     * Hit/miss counters of the in-process L1 and Redis L2
+     */
+    public PokemonRedisStore.CacheStats getCacheStats() {
+        return redisStore.stats();
+    }
+
+    /**
+     * Rebuild the catalog off the request path and publish it only if enough of it is fresh.
+     * Ids that failed this time keep their last good entry.
+     */
+    private void rebuildCatalog() {
+        if (!refreshing.compareAndSet(false, true)) {
+            System.out.println("Catalog rebuild already running, skipping");
+            return;
+        }
+        try {
+            lastRefreshOutcome = leadOrFollow();
+            lastRefreshEpochMs = System.currentTimeMillis();
+            System.out.println("Catalog rebuild: " + lastRefreshOutcome);
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    /**
+     * Rebuild if this node gets the refresh lease, otherwise serve what the lease holder shares.
+     * Without Redis every node rebuilds on its own.
+     */
+    private String leadOrFollow() {
+        boolean leading;
+        try {
+            leading = lease.tryAcquire();
+        } catch (RuntimeException e) {
+            System.err.println("Refresh lease unavailable, rebuilding locally: " + e.getMessage());
+            return publishIfComplete(ingestAll(() -> true));
+        }
+        if (!leading) return follow();
+
+        boolean attempted = false;
+        try {
+            // Continue from the newest shared catalog: it may be fresh already, and its validators keep the rebuild conditional
+            adoptShared();
+            CatalogSnapshot current = catalog.current();
+            if (!refreshDue(current)) return "version " + current.getVersion() + " is current";
+            attempted = true;
+            Ingestion ingestion = ingestAll(this::stillLeading);
+            if (!stillLeading()) return "discarded rebuild, refresh lease lost";
+            return publishIfComplete(ingestion);
+        } finally {
+            lease.release(attempted);
+        }
+    }
+
+    // Another node holds the lease: take its catalog if it is newer, placeholders until there is one
+    private String follow() {
+        String holder = Objects.requireNonNullElse(lease.holder(), "another node");
+        if (adoptShared()) return "adopted version " + catalog.current().getVersion() + " built by " + holder;
+        if (catalog.current().isEmpty()) {
+            catalog.publishFallback(getPlaceholderData());
+            return "published placeholder data, refresh led by " + holder;
+        }
+        return "kept version " + catalog.current().getVersion() + ", refresh led by " + holder;
+    }
+
+    private boolean adoptShared() {
+        try {
+            CatalogSnapshot shared = redisStore.readCatalog();
+            return shared != null && catalog.adopt(shared);
+        } catch (RuntimeException e) {
+            System.err.println("Error reading shared catalog from Redis: " + e.getMessage());
+            return false;
+        }
+    }
+
+    // Renewed between batches; a Redis outage does not stop the rebuild, nobody else can take the lease then either
+    private boolean stillLeading() {
+        try {
+            return lease.renew();
+        } catch (RuntimeException e) {
+            System.err.println("Could not renew refresh lease: " + e.getMessage());
+            return true;
+        }
+    }
+
+    private boolean refreshDue(CatalogSnapshot snapshot) {
+        if (snapshot.isEmpty() || snapshot.isFallback()) return true;
+        long ageMillis = System.currentTimeMillis() - snapshot.getPublishedAt().toEpochMilli();
+        return ageMillis >= properties.getRefresh().getInterval().toMillis();
+    }
+
+    private String publishIfComplete(Ingestion ingestion) {
+        CatalogSnapshot previous = catalog.current();
+        List<Pokemon> fresh = ingestion.pokemons();
+
+        if (fresh.isEmpty()) {
+            if (previous.isEmpty()) {
+                catalog.publishFallback(getPlaceholderData());
+                return "published placeholder data, upstream unavailable";
+            }
+            return "kept version " + previous.getVersion() + ", upstream unavailable";
+        }
+
+        int requested = ingestion.report().requested();
+        int required = (int) Math.ceil(requested * properties.getCatalog().getMinCompleteRatio());
+        boolean replaceable = previous.isEmpty() || previous.isFallback();
+        if (fresh.size() < required && !replaceable) {
+            return "kept version " + previous.getVersion() + ", only " + fresh.size() + "/" + requested + " fetched";
+        }
+
+        // Carry over last good entries (and their validators) for ids that failed this round
+        Map<Integer, Pokemon> merged = new LinkedHashMap<>();
+        Map<Integer, ResourceValidators> validators = new HashMap<>();
+        if (!previous.isFallback()) {
+            for (Pokemon p : previous.all()) {
+                merged.put(p.getId(), p);
+                ResourceValidators v = previous.validators(p.getId());
+                if (v != null) validators.put(p.getId(), v);
+            }
+        }
+        fresh.forEach(p -> merged.put(p.getId(), p));
+        validators.putAll(ingestion.validators());
+
+        CatalogSnapshot published = catalog.publish(new ArrayList<>(merged.values()), validators);
+        return "published version " + published.getVersion() + " (" + ingestion.report() + ")";
+    }
+
+    /**
+     * One id fetched during a rebuild; unchanged entries reuse the published Pokemon
+     */
+    private record Fetched(Pokemon pokemon, ResourceValidators validators, Outcome outcome, IngestionFailure failure,
+                           boolean timedOut) {
+
+        Fetched(Pokemon pokemon, ResourceValidators validators, Outcome outcome) {
+            this(pokemon, validators, outcome, null, false);
+        }
+
+        static Fetched failed(int id, String reason, boolean timedOut) {
+            return new Fetched(null, null, Outcome.FAILED, new IngestionFailure(id, reason), timedOut);
+        }
+    }
+
+    private enum Outcome { UPDATED, UNCHANGED, RESUMED, FAILED }
+
+    /**
+     * Everything a rebuild fetched, ready to be published
+     */
+    private record Ingestion(List<Pokemon> pokemons, Map<Integer, ResourceValidators> validators,
+                             IngestionReport report) {
     }
 
 
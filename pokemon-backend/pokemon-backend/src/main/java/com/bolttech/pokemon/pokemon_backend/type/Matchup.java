@@ -0,0 +1,14 @@
+package com.bolttech.pokemon.pokemon_backend.type;
+
+import java.util.List;
+
+/**
+ * How hard an attacker's types hit one defender.
+ *
+ * @param id         defender id
+ * @param name       defender name
+ * @param types      defender types
+ * @param multiplier best multiplier among the attacker's types (0, 0.25, 0.5, 1, 2 or 4)
+ */
+public record Matchup(int id, String name, List<String> types, float multiplier) {
+}
@@ -0,0 +1,39 @@
+package com.bolttech.pokemon.pokemon_backend.type;
+
+import java.util.Locale;
+
+/**
+ * The 18 Pokémon types. Ordinals index the {@link TypeChart} matrices, so the order must not change.
+ */
+public enum PokemonType {
+    NORMAL, FIRE, WATER, ELECTRIC, GRASS, ICE, FIGHTING, POISON, GROUND,
+    FLYING, PSYCHIC, BUG, ROCK, GHOST, DRAGON, DARK, STEEL, FAIRY;
+
+    public static final int COUNT = values().length;
+
+    private static final PokemonType[] VALUES = values();
+
+    private final String apiName = name().toLowerCase(Locale.ROOT);
+
+    /**
+     * Lowercase name as PokeAPI spells it
+     */
+    public String apiName() {
+        return apiName;
+    }
+
+    public static PokemonType byOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Type for a PokeAPI type name (any case), or null if it is not one of the 18
+     */
+    public static PokemonType fromName(String name) {
+        if (name == null) return null;
+        for (PokemonType type : VALUES) {
+            if (type.apiName.equalsIgnoreCase(name)) return type;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,218 @@
+package com.bolttech.pokemon.pokemon_backend.type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Type effectiveness (generation 6+ chart) as flat primitive matrices, built once at class load.
+ * <ul>
+ *   <li>{@code multiplier(attack, defend)}: single type vs single type, from the 18x18 matrix.</li>
+ *   <li>Defending type combinations are encoded as one int (see {@link #combo}), and the product for every
+ *       attack type x combination is precomputed, so dual types cost one array read as well.</li>
+ *   <li>Profiles (weaknesses/resistances/immunities) are precomputed per combination and shared.</li>
+ * </ul>
+ */
+public final class TypeChart {
+
+    private static final int N = PokemonType.COUNT;
+
+    /**
+     * Defending combinations: primary * (N + 1) + (secondary + 1), with secondary -1 for single types
+     */
+    public static final int COMBOS = N * (N + 1);
+
+    /**
+     * Combination of a Pokémon with no known type; everything is neutral against it
+     */
+    public static final int NO_COMBO = -1;
+
+    /**
+     * Every value a multiplier can take, ascending; a value's index here is its effectiveness level
+     */
+    private static final float[] LEVELS = {0f, 0.25f, 0.5f, 1f, 2f, 4f};
+
+    public static final int LEVEL_COUNT = LEVELS.length;
+
+    private static final int NEUTRAL_LEVEL = 3;
+
+    // Attacking rows, defending columns, in PokemonType order:
+    // NOR FIR WAT ELE GRA ICE FIG POI GRO FLY PSY BUG ROC GHO DRA DAR STE FAI
+    // '.' = 1x, '2' = 2x, 'h' = 0.5x, '0' = no effect
+    private static final String[] CHART = {
+            "............h0..h.", // normal
+            ".hh.22.....2h.h.2.", // fire
+            ".2h.h...2...2.h...", // water
+            "..2hh...02....h...", // electric
+            ".h2.h..h2h.h2.h.h.", // grass
+            ".hh.2h..22....2.h.", // ice
+            "2....2.h.hhh20.22h", // fighting
+            "....2..hh...hh..02", // poison
+            ".2.2h..2.0.h2...2.", // ground
+            "...h2.2....2h...h.", // flying
+            "......22..h....0h.", // psychic
+            ".h..2.hh.h2..h.2hh", // bug
+            ".2...2h.h2.2....h.", // rock
+            "0.........2..2.h..", // ghost
+            "..............2.h0", // dragon
+            "......h...2..2.h.h", // dark
+            ".hhh.2......2...h2", // steel
+            ".h....2h......22h.", // fairy
+    };
+
+    // [attack * N + defend]
+    private static final float[] MULTIPLIERS = new float[N * N];
+
+    // [attack * COMBOS + combo], index into LEVELS
+    private static final byte[] COMBO_LEVELS = new byte[N * COMBOS];
+
+    private static final TypeProfile[] PROFILES = new TypeProfile[COMBOS];
+
+    // Type names of each combination, in order (primary first)
+    private static final List<List<String>> COMBO_NAMES = new ArrayList<>(COMBOS);
+
+    // (combo, mask) -> rendered type list, so equal sets share one list
+    private static final Map<Long, List<String>> MASK_NAMES = new ConcurrentHashMap<>();
+
+    static {
+        for (int attack = 0; attack < N; attack++) {
+            for (int defend = 0; defend < N; defend++) {
+                MULTIPLIERS[attack * N + defend] = switch (CHART[attack].charAt(defend)) {
+                    case '2' -> 2f;
+                    case 'h' -> 0.5f;
+                    case '0' -> 0f;
+                    default -> 1f;
+                };
+            }
+        }
+        for (int combo = 0; combo < COMBOS; combo++) {
+            int primary = combo / (N + 1);
+            int secondary = combo % (N + 1) - 1;
+            for (int attack = 0; attack < N; attack++) {
+                float m = MULTIPLIERS[attack * N + primary];
+                if (secondary >= 0) m *= MULTIPLIERS[attack * N + secondary];
+                COMBO_LEVELS[attack * COMBOS + combo] = (byte) level(m);
+            }
+            PROFILES[combo] = buildProfile(combo);
+            COMBO_NAMES.add(secondary < 0
+                    ? List.of(PokemonType.byOrdinal(primary).apiName())
+                    : List.of(PokemonType.byOrdinal(primary).apiName(), PokemonType.byOrdinal(secondary).apiName()));
+        }
+    }
+
+    private TypeChart() {
+    }
+
+    public static float multiplier(PokemonType attack, PokemonType defend) {
+        return MULTIPLIERS[attack.ordinal() * N + defend.ordinal()];
+    }
+
+    /**
+     * Multiplier of an attack type against a defending combination (product for dual types)
+     */
+    public static float multiplier(PokemonType attack, int combo) {
+        return LEVELS[level(attack.ordinal(), combo)];
+    }
+
+    /**
+     * Effectiveness level (0 = no effect .. {@code LEVEL_COUNT - 1} = 4x) of an attack type ordinal
+     * against a combination; levels order like the multipliers they stand for
+     */
+    public static int level(int attack, int combo) {
+        return combo == NO_COMBO ? NEUTRAL_LEVEL : COMBO_LEVELS[attack * COMBOS + combo];
+    }
+
+    public static float multiplierAt(int level) {
+        return LEVELS[level];
+    }
+
+    /**
+     * Combination code for a Pokémon's types; unknown names are skipped and only the first two known types count
+     */
+    public static int combo(List<String> types) {
+        if (types == null) return NO_COMBO;
+        int primary = -1;
+        for (String name : types) {
+            PokemonType type = PokemonType.fromName(name);
+            if (type == null || type.ordinal() == primary) continue;
+            if (primary < 0) {
+                primary = type.ordinal();
+            } else {
+                return primary * (N + 1) + type.ordinal() + 1;
+            }
+        }
+        return primary < 0 ? NO_COMBO : primary * (N + 1);
+    }
+
+    /**
+     * Type names of a combination (primary first), shared per combination
+     */
+    public static List<String> names(int combo) {
+        return COMBO_NAMES.get(combo);
+    }
+
+    /**
+     * Bitmask (bit = type ordinal) of a list of distinct type names, or -1 if a name is unknown or repeated
+     */
+    public static int mask(List<String> types) {
+        int mask = 0;
+        for (String name : types) {
+            PokemonType type = PokemonType.fromName(name);
+            if (type == null || (mask & 1 << type.ordinal()) != 0) return -1;
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Type names in a mask, in profile order for the defending combination: furthest from neutral first
+     * (4x before 2x, 0.25x before 0.5x), then type order. Shared per (combination, mask).
+     */
+    public static List<String> names(int mask, int combo) {
+        if (mask == 0) return List.of();
+        return MASK_NAMES.computeIfAbsent(((long) combo << 32) | mask, key -> {
+            List<String> names = new ArrayList<>(Integer.bitCount(mask));
+            for (int distance = NEUTRAL_LEVEL; distance >= 0; distance--) {
+                for (int attack = 0; attack < N; attack++) {
+                    if ((mask & 1 << attack) != 0 && Math.abs(level(attack, combo) - NEUTRAL_LEVEL) == distance) {
+                        names.add(PokemonType.byOrdinal(attack).apiName());
+                    }
+                }
+            }
+            return List.copyOf(names);
+        });
+    }
+
+    /**
+     * Shared, precomputed defensive profile for a Pokémon's types
+     */
+    public static TypeProfile profile(List<String> types) {
+        int combo = combo(types);
+        return combo == NO_COMBO ? TypeProfile.NEUTRAL : PROFILES[combo];
+    }
+
+    private static TypeProfile buildProfile(int combo) {
+        List<String> weaknesses = new ArrayList<>();
+        List<String> resistances = new ArrayList<>();
+        List<String> immunities = new ArrayList<>();
+        // Strongest first: 4x, 2x and 0.25x, 0.5x
+        for (int lvl : new int[]{5, 4, 1, 2, 0}) {
+            for (int attack = 0; attack < N; attack++) {
+                if (COMBO_LEVELS[attack * COMBOS + combo] != lvl) continue;
+                String name = PokemonType.byOrdinal(attack).apiName();
+                if (lvl > NEUTRAL_LEVEL) weaknesses.add(name);
+                else if (lvl > 0) resistances.add(name);
+                else immunities.add(name);
+            }
+        }
+        return new TypeProfile(List.copyOf(weaknesses), List.copyOf(resistances), List.copyOf(immunities));
+    }
+
+    private static int level(float multiplier) {
+        for (int i = 0; i < LEVELS.length; i++) {
+            if (LEVELS[i] == multiplier) return i;
+        }
+        throw new IllegalStateException("Unexpected multiplier " + multiplier);
+    }
+}
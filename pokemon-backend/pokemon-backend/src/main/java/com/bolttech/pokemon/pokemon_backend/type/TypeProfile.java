@@ -0,0 +1,16 @@
+package com.bolttech.pokemon.pokemon_backend.type;
+
+import java.util.List;
+
+/**
+ * Defensive profile of one type combination: attacking types grouped by their multiplier against it.
+ * Each list is ordered strongest first (4x before 2x, 0.25x before 0.5x), then in type order.
+ *
+ * @param weaknesses  attacking types dealing 2x or 4x
+ * @param resistances attacking types dealing 0.5x or 0.25x
+ * @param immunities  attacking types dealing no damage
+ */
+public record TypeProfile(List<String> weaknesses, List<String> resistances, List<String> immunities) {
+
+    public static final TypeProfile NEUTRAL = new TypeProfile(List.of(), List.of(), List.of());
+}
@@ -0,0 +1,165 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    private PokemonCatalog catalog;
+
+    private CatalogSnapshotFile file;
+
+    @BeforeEach
+    void setUp() {
+        catalog = new PokemonCatalog();
+        file = snapshotFile(catalog);
+    }
+
+    @Test
+    void testRoundTripKeepsEntriesValidatorsVersionAndPublishTime() throws IOException {
+        Instant publishedAt = Instant.parse("2024-05-01T10:15:30.123Z");
+        CatalogSnapshot saved = CatalogSnapshot.of(pokemons(3),
+                Map.of(2, new ResourceValidators("\"v2\"", "Wed, 01 May 2024 10:00:00 GMT", "abc123", 2)), 7, publishedAt, false);
+
+        file.write(saved);
+        CatalogSnapshot read = file.read();
+
+        assertEquals(7, read.getVersion());
+        assertEquals(publishedAt, read.getPublishedAt());
+        assertFalse(read.isFallback());
+        assertEquals(3, read.size());
+        assertEquals("Pokemon 2", read.get(2).getName());
+        assertEquals(List.of("fire", "flying"), read.get(2).getTypes());
+        assertEquals(new ResourceValidators("\"v2\"", "Wed, 01 May 2024 10:00:00 GMT", "abc123", 2), read.validators(2));
+        assertNull(read.validators(1));
+    }
+
+    @Test
+    void testRestoreServesSavedCatalogUntilFirstPublish() throws IOException {
+        file.write(CatalogSnapshot.of(pokemons(5), Map.of(), 12, Instant.now(), false));
+        PokemonCatalog restarted = new PokemonCatalog();
+
+        snapshotFile(restarted).restore();
+
+        assertEquals(12, restarted.current().getVersion());
+        assertEquals(5, restarted.current().size());
+        // Versions keep increasing across the restart
+        assertEquals(13, restarted.publish(pokemons(1)).getVersion());
+    }
+
+    @Test
+    void testRestoreDoesNotReplaceAPublishedCatalog() throws IOException {
+        file.write(CatalogSnapshot.of(pokemons(5), Map.of(), 12, Instant.now(), false));
+        catalog.publish(pokemons(2));
+
+        file.restore();
+
+        assertEquals(2, catalog.current().size());
+    }
+
+    @Test
+    void testPublishedCatalogIsSavedButPlaceholderIsNot() {
+        CatalogSnapshot placeholder = CatalogSnapshot.of(pokemons(2), Map.of(), 1, Instant.now(), true);
+        file.onCatalogPublished(new CatalogPublishedEvent(placeholder, CatalogSnapshot.empty()));
+        assertFalse(Files.exists(file.getPath()));
+
+        CatalogSnapshot real = CatalogSnapshot.of(pokemons(4), Map.of(), 2, Instant.now(), false);
+        file.onCatalogPublished(new CatalogPublishedEvent(real, placeholder));
+        assertEquals(4, file.read().size());
+    }
+
+    @Test
+    void testCorruptedOrForeignFilesAreIgnored() throws IOException {
+        assertNull(file.read()); // missing
+
+        file.write(CatalogSnapshot.of(pokemons(10), Map.of(), 1, Instant.now(), false));
+        byte[] bytes = Files.readAllBytes(file.getPath());
+
+        byte[] flipped = bytes.clone();
+        flipped[flipped.length - 5] ^= 0x10;
+        Files.write(file.getPath(), flipped);
+        assertNull(file.read());
+
+        byte[] foreign = bytes.clone();
+        foreign[0] = 'X';
+        Files.write(file.getPath(), foreign);
+        assertNull(file.read());
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 20);
+        Files.write(file.getPath(), truncated);
+        assertNull(file.read());
+
+        file.restore();
+        assertTrue(catalog.current().isEmpty());
+    }
+
+    @Test
+    void testLargeDexRoundTripsWithValidators() throws IOException {
+        int entries = 1500;
+        Map<Integer, ResourceValidators> validators = new HashMap<>();
+        for (int id = 1; id <= entries; id++) validators.put(id, new ResourceValidators("\"" + id + "\"", null, "h" + id));
+        file.write(CatalogSnapshot.of(pokemons(entries), validators, 1, Instant.now(), false));
+
+        CatalogSnapshot read = file.read();
+
+        assertEquals(entries, read.size());
+        assertEquals("Pokemon 1500", read.get(1500).getName());
+        assertEquals(new ResourceValidators("\"742\"", null, "h742"), read.validators(742));
+    }
+
+    private CatalogSnapshotFile snapshotFile(PokemonCatalog target) {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getCatalog().setSnapshotFile(dir.resolve("catalog.snapshot").toString());
+        return new CatalogSnapshotFile(target, properties);
+    }
+
+    @Test
+    void testEntriesEncodeToTheSameBytesAsTheirSnapshot() {
+        Instant publishedAt = Instant.parse("2024-05-01T10:15:30.123Z");
+        Map<Integer, ResourceValidators> validators = Map.of(2, new ResourceValidators("\"v2\"", null, "abc123", 2));
+        List<Pokemon> entries = pokemons(4);
+
+        byte[] direct = CatalogSnapshotFile.encode(entries, validators::get, 0, publishedAt);
+
+        assertArrayEquals(CatalogSnapshotFile.encode(CatalogSnapshot.of(entries, validators, 0, publishedAt, false)), direct);
+    }
+
+    private static List<Pokemon> pokemons(int count) {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 1; id <= count; id++) {
+            Pokemon p = Pokemon.builder()
+                    .id(id)
+                    .name("Pokemon " + id)
+                    .types(List.of("fire", "flying"))
+                    .frontImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + id + ".png")
+                    .backImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/back/" + id + ".png")
+                    .region("Kanto")
+                    .weaknesses(List.of("water", "electric", "rock"))
+                    .build();
+            pokemons.add(p);
+        }
+        return pokemons;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalCacheTest {
+
+    @Test
+    void testEvictsLeastRecentlyUsedBeyondMaxEntries() {
+        LocalCache<Integer, String> cache = new LocalCache<>(2, 60_000);
+        cache.put(1, "a");
+        cache.put(2, "b");
+        cache.get(1);
+        cache.put(3, "c");
+
+        assertEquals("a", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals("c", cache.get(3));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testExpiresEntriesAfterTtl() throws InterruptedException {
+        LocalCache<Integer, String> cache = new LocalCache<>(10, 20);
+        cache.put(1, "a");
+        Thread.sleep(50);
+
+        assertNull(cache.get(1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testCountsHitsAndMisses() {
+        LocalCache<Integer, String> cache = new LocalCache<>(10, 60_000);
+        cache.put(1, "a");
+        cache.get(1);
+        cache.get(2);
+        cache.clear();
+        cache.get(1);
+
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+    }
+
+    @Test
+    void testZeroSizeDisablesCaching() {
+        LocalCache<Integer, String> cache = new LocalCache<>(0, 60_000);
+        cache.put(1, "a");
+
+        assertNull(cache.get(1));
+    }
+}
@@ -0,0 +1,131 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties.ValueFormat;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonRedisSerializerTest {
+
+    private final PokemonRedisSerializer serializer = new PokemonRedisSerializer();
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+
+    @Test
+    void testRoundTrip() {
+        Pokemon charizard = charizard();
+
+        byte[] bytes = serializer.serialize(charizard);
+        Pokemon read = (Pokemon) serializer.deserialize(bytes);
+
+        assertEquals(PokemonRedisSerializer.V2, bytes[0]);
+        assertEquals(6, read.getId());
+        assertEquals("Charizard", read.getName());
+        assertEquals(List.of("fire", "flying"), read.getTypes());
+        assertEquals(charizard.getFrontImage(), read.getFrontImage());
+        assertEquals(charizard.getBackImage(), read.getBackImage());
+        assertEquals("Kanto", read.getRegion());
+        assertEquals(List.of("water", "electric", "rock"), read.getWeaknesses());
+        assertEquals(List.of("grass", "bug"), read.getResistances());
+        assertEquals(List.of("ground"), read.getImmunities());
+    }
+
+    @Test
+    void testReadsV1EntriesWithoutTypeProfile() {
+        BinaryCodec.Writer out = new BinaryCodec.Writer(128);
+        out.write(PokemonRedisSerializer.V1);
+        Pokemon charizard = charizard().toBuilder().resistances(null).immunities(null).build();
+        BinaryCodec.writePokemon(out, charizard);
+        // V1 entries ended after weaknesses
+        byte[] v1 = Arrays.copyOf(out.toByteArray(), out.size() - 2);
+
+        Pokemon read = (Pokemon) serializer.deserialize(v1);
+
+        assertEquals("Charizard", read.getName());
+        assertEquals(List.of("water", "electric", "rock"), read.getWeaknesses());
+        assertNull(read.getResistances());
+    }
+
+    @Test
+    void testRoundTrip_NullsAndEmptyListsArePreserved() {
+        Pokemon sparse = Pokemon.builder()
+                .id(100_000)
+                .name("")
+                .types(List.of())
+                .build();
+
+        Pokemon read = (Pokemon) serializer.deserialize(serializer.serialize(sparse));
+
+        assertEquals(100_000, read.getId());
+        assertEquals("", read.getName());
+        assertEquals(List.of(), read.getTypes());
+        assertNull(read.getFrontImage());
+        assertNull(read.getRegion());
+        assertNull(read.getWeaknesses());
+    }
+
+    @Test
+    void testReadsLegacyJsonEntries() {
+        byte[] legacy = json.serialize(charizard());
+
+        Pokemon read = (Pokemon) serializer.deserialize(legacy);
+
+        assertEquals("Charizard", read.getName());
+        assertEquals(List.of("fire", "flying"), read.getTypes());
+    }
+
+    @Test
+    void testJsonFormat_WritesLegacyValuesAndStillReadsBinary() {
+        PokemonRedisSerializer jsonWriter = new PokemonRedisSerializer(ValueFormat.JSON);
+
+        byte[] written = jsonWriter.serialize(charizard());
+
+        assertEquals('{', written[0]);
+        assertEquals("Charizard", ((Pokemon) json.deserialize(written)).getName());
+        assertEquals("Charizard", ((Pokemon) jsonWriter.deserialize(serializer.serialize(charizard()))).getName());
+    }
+
+    @Test
+    void testNullAndTruncatedValues() {
+        assertNull(serializer.deserialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+
+        byte[] bytes = serializer.serialize(charizard());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length / 2);
+        assertThrows(SerializationException.class, () -> serializer.deserialize(truncated));
+    }
+
+    /**
+     * Encoded size against GenericJackson2JsonRedisSerializer; speed is measured in PokemonRedisSerializerBenchmark.
+     */
+    @Test
+    void testBinaryIsSmallerThanJson() {
+        Pokemon pokemon = charizard();
+
+        byte[] jsonBytes = json.serialize(pokemon);
+        byte[] binaryBytes = serializer.serialize(pokemon);
+
+        assertTrue(binaryBytes.length * 10 < jsonBytes.length * 7,
+                "binary " + binaryBytes.length + " B vs json " + jsonBytes.length + " B");
+    }
+
+    private static Pokemon charizard() {
+        return Pokemon.builder()
+                .id(6)
+                .name("Charizard")
+                .types(List.of("fire", "flying"))
+                .frontImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/6.png")
+                .backImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/back/6.png")
+                .region("Kanto")
+                .weaknesses(List.of("water", "electric", "rock"))
+                .resistances(List.of("grass", "bug"))
+                .immunities(List.of("ground"))
+                .build();
+    }
+}
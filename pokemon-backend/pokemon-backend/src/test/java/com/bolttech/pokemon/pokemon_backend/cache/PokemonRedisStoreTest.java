@@ -0,0 +1,378 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.config.RedisConfig;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the per-entry layout against a real (embedded) Redis server.
+ */
+class PokemonRedisStoreTest {
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private PokemonRedisStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory, new PokemonProperties());
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisConnection connection) -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        store = new PokemonRedisStore(redisTemplate, new PokemonProperties());
+    }
+
+    @Test
+    void writeThrough_StoresOneKeyPerPokemonPlusIndex() {
+        store.writeThrough(snapshot(1, 5), null);
+
+        assertNotNull(redisTemplate.opsForValue().get("pokemon:entry:3"));
+        assertEquals("1,2,3,4,5", new String(rawGet("pokemon:index")));
+        assertEquals(1, store.storedVersion());
+        assertEquals("Pokemon 3", store.get(3).getName());
+        assertNull(store.get(99));
+    }
+
+    @Test
+    void page_FetchesOnlyThatPageWithOneMget() {
+        store.writeThrough(snapshot(1, 1000), null);
+        resetStats();
+
+        List<Pokemon> page = store.page(2, 20);
+
+        assertEquals(20, page.size());
+        assertEquals(41, page.get(0).getId());
+        assertEquals(60, page.get(19).getId());
+        assertEquals(1, calls("mget"));
+        // The id index is served locally, so the page read is the only round trip
+        assertEquals(0, calls("get"));
+    }
+
+    @Test
+    void page_OutOfRangeOrInvalid_IsEmpty() {
+        store.writeThrough(snapshot(1, 10), null);
+
+        assertTrue(store.page(5, 5).isEmpty());
+        assertTrue(store.page(-1, 5).isEmpty());
+        assertTrue(store.page(0, 0).isEmpty());
+    }
+
+    @Test
+    void page_OtherNodeReadsIndexFromRedis() {
+        store.writeThrough(snapshot(1, 30), null);
+        PokemonRedisStore reader = new PokemonRedisStore(redisTemplate, new PokemonProperties());
+
+        List<Pokemon> page = reader.page(1, 10);
+
+        assertEquals(11, page.get(0).getId());
+        assertEquals(10, page.size());
+    }
+
+    @Test
+    void writeThrough_DeletesRemovedEntriesAndSkipsUnchangedOnes() {
+        CatalogSnapshot first = snapshot(1, 10);
+        store.writeThrough(first, null);
+        resetStats();
+
+        // Same entries minus 9 and 10, one of them replaced
+        List<Pokemon> next = new ArrayList<>(first.all().subList(0, 8));
+        next.set(0, pokemon(1, "Renamed"));
+        store.writeThrough(CatalogSnapshot.of(next), first);
+
+        assertNull(store.get(9));
+        assertNull(store.get(10));
+        assertEquals("Renamed", store.get(1).getName());
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), store.page(0, 20).stream().map(Pokemon::getId).toList());
+        // Entry write for id 1 plus the index and the shared catalog
+        assertEquals(3, calls("set"));
+        assertEquals(2, store.storedVersion());
+    }
+
+    @Test
+    void page_RepeatReadIsServedFromL1() {
+        store.writeThrough(snapshot(1, 100), null);
+        store.page(0, 20);
+        resetStats();
+
+        List<Pokemon> page = store.page(0, 20);
+
+        assertEquals(20, page.size());
+        assertEquals(0, calls("mget"));
+        PokemonRedisStore.CacheStats stats = store.stats();
+        assertEquals(20, stats.l1Hits());
+        assertEquals(20, stats.l2Hits());
+    }
+
+    @Test
+    void getAll_OneMgetInRequestOrderForWhatL1IsMissing() {
+        store.writeThrough(snapshot(1, 100), null);
+        store.get(7);
+        resetStats();
+
+        Pokemon[] found = store.getAll(new int[]{42, 999, 7, 3});
+
+        assertEquals(42, found[0].getId());
+        assertNull(found[1]);
+        assertEquals(7, found[2].getId());
+        assertEquals(3, found[3].getId());
+        assertEquals(1, calls("mget"));
+        assertEquals(0, calls("get"));
+        assertEquals(0, store.getAll(new int[0]).length);
+    }
+
+    @Test
+    void get_ConcurrentMissesShareRedisReads() throws Exception {
+        store.writeThrough(snapshot(1, 10), null);
+        PokemonRedisStore reader = new PokemonRedisStore(redisTemplate, new PokemonProperties());
+        resetStats();
+        int callers = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Pokemon>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) results.add(pool.submit(() -> {
+                start.await();
+                return reader.get(7);
+            }));
+            start.countDown();
+            for (Future<Pokemon> result : results) assertEquals(7, result.get().getId());
+        } finally {
+            pool.shutdownNow();
+        }
+
+        PokemonRedisStore.CacheStats stats = reader.stats();
+        assertEquals(stats.l2Reads(), calls("get"));
+        assertEquals(callers, stats.l2Reads() + stats.coalesced() + stats.l1Hits());
+        assertEquals(0, stats.coalesceTimeouts());
+    }
+
+    @Test
+    void get_MissingEntryIsCountedAsL2Miss() {
+        store.writeThrough(snapshot(1, 3), null);
+
+        store.get(2);
+        store.get(2);
+        store.get(99);
+
+        PokemonRedisStore.CacheStats stats = store.stats();
+        assertEquals(1, stats.l1Hits());
+        assertEquals(2, stats.l1Misses());
+        assertEquals(1, stats.l2Hits());
+        assertEquals(1, stats.l2Misses());
+    }
+
+    @Test
+    void bindTo_ExposesReadsByTierAndLoadTimes() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        store.bindTo(registry);
+        store.writeThrough(snapshot(1, 3), null);
+
+        store.get(2);
+        store.get(2);
+        store.get(99);
+        store.getAll(new int[]{1, 3});
+
+        assertEquals(1, gets(registry, "l1", "hit"));
+        assertEquals(4, gets(registry, "l1", "miss"));
+        assertEquals(3, gets(registry, "redis", "hit"));
+        assertEquals(1, gets(registry, "redis", "miss"));
+        assertEquals(3, registry.get("pokemon.cache.size").gauge().value());
+        // Two GETs and one MGET
+        FunctionTimer loads = registry.get("pokemon.cache.loads").functionTimer();
+        assertEquals(3, loads.count());
+        assertTrue(loads.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    @Test
+    void writeOnOneNode_InvalidatesL1OnOthers() throws Exception {
+        PokemonRedisStore reader = new PokemonRedisStore(redisTemplate, new PokemonProperties());
+        CacheInvalidationSubscriber subscriber = new CacheInvalidationSubscriber(connectionFactory, reader);
+        try {
+            subscriber.ensureSubscribed();
+            assertTrue(subscriber.isListening());
+            CatalogSnapshot first = snapshot(1, 5);
+            store.writeThrough(first, null);
+            awaitInvalidations(reader, 1);
+            assertEquals("Pokemon 1", reader.get(1).getName());
+
+            List<Pokemon> next = new ArrayList<>(first.all());
+            next.set(0, pokemon(1, "Renamed"));
+            store.writeThrough(CatalogSnapshot.of(next), first);
+
+            awaitInvalidations(reader, 2);
+            assertEquals("Renamed", reader.get(1).getName());
+        } finally {
+            subscriber.close();
+        }
+    }
+
+    @Test
+    void l1Ttl_BoundsStalenessWithoutInvalidation() throws InterruptedException {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getRedis().setL1Ttl(Duration.ofMillis(50));
+        PokemonRedisStore reader = new PokemonRedisStore(redisTemplate, properties);
+        CatalogSnapshot first = snapshot(1, 5);
+        store.writeThrough(first, null);
+        reader.get(1);
+
+        List<Pokemon> next = new ArrayList<>(first.all());
+        next.set(0, pokemon(1, "Renamed"));
+        store.writeThrough(CatalogSnapshot.of(next), first);
+        Thread.sleep(100);
+
+        assertEquals("Renamed", reader.get(1).getName());
+    }
+
+    @Test
+    void onCatalogPublished_SkipsPlaceholderData() {
+        CatalogSnapshot placeholder = CatalogSnapshot.of(snapshot(1, 3).all(), Map.of(), 1, Instant.now(), true);
+
+        store.onCatalogPublished(new CatalogPublishedEvent(placeholder, CatalogSnapshot.empty()));
+
+        assertEquals(0, store.storedVersion());
+        assertNull(store.get(1));
+    }
+
+    @Test
+    void onCatalogPublished_SkipsCatalogAdoptedFromAnotherNode() {
+        store.onCatalogPublished(new CatalogPublishedEvent(snapshot(1, 3), CatalogSnapshot.empty(), true));
+
+        assertEquals(0, store.storedVersion());
+        assertNull(store.readCatalog());
+    }
+
+    @Test
+    void readCatalog_ReturnsTheWholeCatalogWithVersionAndValidators() {
+        assertNull(store.readCatalog());
+        Instant publishedAt = Instant.ofEpochMilli(1_700_000_000_000L);
+        CatalogSnapshot published = CatalogSnapshot.of(snapshot(1, 5).all(),
+                Map.of(2, new ResourceValidators("\"v2\"", null, "hash-2")), 7, publishedAt, false);
+        store.writeThrough(published, null);
+
+        CatalogSnapshot shared = new PokemonRedisStore(redisTemplate, new PokemonProperties()).readCatalog();
+
+        assertEquals(7, shared.getVersion());
+        assertEquals(publishedAt, shared.getPublishedAt());
+        assertEquals(5, shared.size());
+        assertEquals("Pokemon 4", shared.get(4).getName());
+        assertEquals("\"v2\"", shared.validators(2).etag());
+        assertFalse(shared.isFallback());
+    }
+
+    @Test
+    void newerGenerationFromAnotherNode_IsAnnounced() throws Exception {
+        List<Object> events = new CopyOnWriteArrayList<>();
+        PokemonRedisStore reader = new PokemonRedisStore(redisTemplate, new PokemonProperties(), events::add);
+        CacheInvalidationSubscriber subscriber = new CacheInvalidationSubscriber(connectionFactory, reader);
+        try {
+            subscriber.ensureSubscribed();
+            store.writeThrough(snapshot(1, 5), null);
+            awaitInvalidations(reader, 1);
+
+            assertEquals(List.of(new SharedCatalogChangedEvent(1)), events);
+            // Its own write-throughs are not announced back to the writer
+            reader.writeThrough(snapshot(1, 6), null);
+            Thread.sleep(100);
+            assertEquals(1, events.size());
+        } finally {
+            subscriber.close();
+        }
+    }
+
+    private static void awaitInvalidations(PokemonRedisStore reader, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (reader.stats().invalidations() < expected && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertEquals(expected, reader.stats().invalidations());
+    }
+
+    private static CatalogSnapshot snapshot(int fromId, int toId) {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = fromId; id <= toId; id++) pokemons.add(pokemon(id, "Pokemon " + id));
+        return CatalogSnapshot.of(pokemons);
+    }
+
+    private static Pokemon pokemon(int id, String name) {
+        return Pokemon.builder()
+                .id(id)
+                .name(name)
+                .types(List.of("normal"))
+                .weaknesses(List.of("fighting"))
+                .region("Kanto")
+                .build();
+    }
+
+    private static byte[] rawGet(String key) {
+        return redisTemplate.execute((RedisConnection connection) -> connection.stringCommands().get(key.getBytes()));
+    }
+
+    private static double gets(SimpleMeterRegistry registry, String tier, String result) {
+        return registry.get("pokemon.cache.gets").tags("tier", tier, "result", result).functionCounter().count();
+    }
+
+    private static void resetStats() {
+        redisTemplate.execute((RedisConnection connection) -> {
+            connection.serverCommands().resetConfigStats();
+            return null;
+        });
+    }
+
+    private static long calls(String command) {
+        Properties stats = redisTemplate.execute((RedisConnection connection) -> connection.serverCommands().info("commandstats"));
+        String line = stats == null ? null : stats.getProperty("cmdstat_" + command);
+        if (line == null) return 0;
+        // calls=1,usec=12,usec_per_call=12.00,...
+        return Long.parseLong(line.substring("calls=".length(), line.indexOf(',')));
+    }
+}
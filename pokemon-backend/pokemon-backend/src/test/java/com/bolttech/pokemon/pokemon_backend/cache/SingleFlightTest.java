@@ -0,0 +1,148 @@
+package com.bolttech.pokemon.pokemon_backend.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Synthetic burst: 64 concurrent misses for one key while its load is slow
+     */
+    @Test
+    void testBurstOfMissesForOneKeySharesOneLoad() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<>(5000);
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 64;
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(pool.submit(() -> flight.execute(25, () -> {
+                upstreamCalls.incrementAndGet();
+                await(release);
+                return "pikachu";
+            })));
+        }
+        waitFor(() -> flight.stats().coalesced() == callers - 1);
+        release.countDown();
+
+        for (Future<String> result : results) assertEquals("pikachu", result.get(5, TimeUnit.SECONDS));
+        SingleFlight.Stats stats = flight.stats();
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(new SingleFlight.Stats(1, callers - 1, 0), stats);
+
+        // Nothing is remembered: the next miss loads again
+        assertEquals("raichu", flight.execute(25, () -> "raichu"));
+    }
+
+    @Test
+    void testFailingKeyOnlyFailsItsOwnWaiters() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(5000);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> failing = pool.submit(() -> flight.execute("a", () -> {
+            await(release);
+            throw new IllegalStateException("redis down for a");
+        }));
+        Future<String> succeeding = pool.submit(() -> flight.execute("b", () -> {
+            await(release);
+            return "b";
+        }));
+        waitFor(() -> flight.stats().loads() == 2);
+        Future<String> waitingOnA = pool.submit(() -> flight.execute("a", () -> "not called"));
+        Future<String> waitingOnB = pool.submit(() -> flight.execute("b", () -> "not called"));
+        waitFor(() -> flight.stats().coalesced() == 2);
+        release.countDown();
+
+        assertEquals("redis down for a", cause(failing).getMessage());
+        assertEquals("redis down for a", cause(waitingOnA).getMessage());
+        assertEquals("b", succeeding.get(5, TimeUnit.SECONDS));
+        assertEquals("b", waitingOnB.get(5, TimeUnit.SECONDS));
+        // The failure is not kept either
+        assertEquals("a", flight.execute("a", () -> "a"));
+    }
+
+    @Test
+    void testWaitersGiveUpAfterTheTimeout() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<>(50);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = pool.submit(() -> flight.execute(1, () -> {
+            await(release);
+            return "late";
+        }));
+        waitFor(() -> flight.stats().loads() == 1);
+
+        assertThrows(SingleFlightTimeoutException.class, () -> flight.execute(1, () -> "not called"));
+
+        release.countDown();
+        assertEquals("late", slow.get(5, TimeUnit.SECONDS));
+        assertEquals(1, flight.stats().timeouts());
+    }
+
+    @Test
+    void testExecuteAllLoadsOnlyKeysNotAlreadyInFlight() throws Exception {
+        SingleFlight<Integer, String> flight = new SingleFlight<>(5000);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = pool.submit(() -> flight.execute(1, () -> {
+            await(release);
+            return "one";
+        }));
+        waitFor(() -> flight.stats().loads() == 1);
+        List<List<Integer>> batches = new ArrayList<>();
+
+        Future<Map<Integer, String>> all = pool.submit(() -> flight.executeAll(List.of(1, 2, 3, 2), missing -> {
+            batches.add(missing);
+            return Map.of(2, "two");
+        }));
+        waitFor(() -> flight.stats().coalesced() == 1);
+        release.countDown();
+
+        Map<Integer, String> values = all.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of(List.of(2, 3)), batches);
+        assertEquals("one", values.get(1));
+        assertEquals("two", values.get(2));
+        assertTrue(values.containsKey(3));
+        assertNull(values.get(3));
+        assertEquals("one", running.get());
+    }
+
+    private static Throwable cause(Future<?> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) Thread.sleep(5);
+        assertTrue(condition.getAsBoolean());
+    }
+}
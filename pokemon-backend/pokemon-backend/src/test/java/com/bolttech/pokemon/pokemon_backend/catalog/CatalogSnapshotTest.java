@@ -0,0 +1,150 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.type.Matchup;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    @Test
+    void testLookupAndPagingAreOrderedById() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(pokemon(3), pokemon(1), pokemon(7)));
+
+        assertEquals(3, snapshot.size());
+        assertEquals(7, snapshot.get(7).getId());
+        assertNull(snapshot.get(2));
+        assertNull(snapshot.get(99));
+        assertNull(snapshot.get(-1));
+
+        List<Pokemon> first = snapshot.page(0, 2);
+        assertEquals(List.of(1, 3), first.stream().map(Pokemon::getId).toList());
+        assertEquals(List.of(7), snapshot.page(1, 2).stream().map(Pokemon::getId).toList());
+        assertTrue(snapshot.page(2, 2).isEmpty());
+    }
+
+    @Test
+    void testInvalidPageArgumentsReturnEmpty() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(pokemon(1)));
+
+        assertTrue(snapshot.page(-1, 10).isEmpty());
+        assertTrue(snapshot.page(0, 0).isEmpty());
+        assertTrue(snapshot.page(Integer.MAX_VALUE, Integer.MAX_VALUE).isEmpty());
+    }
+
+    @Test
+    void testFilterCombinesTypesWithOrAndAttributesWithAnd() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                pokemon(1, List.of("grass", "poison"), List.of("fire", "psychic")),
+                pokemon(4, List.of("fire"), List.of("water", "rock")),
+                pokemon(6, List.of("fire", "flying"), List.of("rock", "electric")),
+                pokemon(7, List.of("water"), List.of("grass"))));
+
+        assertEquals(List.of(4, 6), ids(snapshot.page(new PokemonFilter(List.of("FIRE"), null), 0, 10)));
+        assertEquals(List.of(1, 4, 6), ids(snapshot.page(new PokemonFilter(List.of("grass", "fire"), null), 0, 10)));
+        assertEquals(List.of(4), ids(snapshot.page(new PokemonFilter(List.of("fire"), List.of("water")), 0, 10)));
+        assertEquals(List.of(4, 6), ids(snapshot.page(new PokemonFilter(null, List.of("rock")), 0, 10)));
+        assertTrue(snapshot.page(new PokemonFilter(List.of("dragon"), null), 0, 10).isEmpty());
+        assertEquals(2, snapshot.count(new PokemonFilter(List.of("fire"), List.of())));
+        assertEquals(4, snapshot.count(PokemonFilter.NONE));
+    }
+
+    @Test
+    void testFilteredPagingCrossesBitsetWords() {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 1; id <= 300; id++) {
+            pokemons.add(pokemon(id, List.of(id % 3 == 0 ? "fire" : "water"), List.of()));
+        }
+        CatalogSnapshot snapshot = CatalogSnapshot.of(pokemons);
+        PokemonFilter fire = new PokemonFilter(List.of("fire"), null);
+
+        assertEquals(100, snapshot.count(fire));
+        // Page 2 of 8 is matches 17-24 (ids 51 .. 72); id 64 is the last position of the first word
+        assertEquals(List.of(51, 54, 57, 60, 63, 66, 69, 72), ids(snapshot.page(fire, 2, 8)));
+        assertEquals(List.of(300), ids(snapshot.page(fire, 33, 3)));
+        assertTrue(snapshot.page(fire, 34, 3).isEmpty());
+        assertTrue(snapshot.page(fire, -1, 3).isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.page(fire, 0, 5).clear());
+    }
+
+    @Test
+    void testKeysetPagingStartsAfterTheGivenId() {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 3; id <= 300; id += 3) {
+            pokemons.add(pokemon(id, List.of(id % 2 == 0 ? "fire" : "water"), List.of()));
+        }
+        CatalogSnapshot snapshot = CatalogSnapshot.of(pokemons);
+        PokemonFilter fire = new PokemonFilter(List.of("fire"), null);
+
+        // Ids that are not in the catalog are fine as keys: the page starts at the next one present
+        assertEquals(List.of(3, 6), ids(snapshot.after(PokemonFilter.NONE, -1, 2)));
+        assertEquals(List.of(9, 12, 15), ids(snapshot.after(PokemonFilter.NONE, 7, 3)));
+        assertEquals(List.of(300), ids(snapshot.after(PokemonFilter.NONE, 297, 5)));
+        assertTrue(snapshot.after(PokemonFilter.NONE, 300, 5).isEmpty());
+        // Position 63 (id 192) is the last of the first bitset word
+        assertEquals(List.of(186, 192, 198, 204), ids(snapshot.after(fire, 180, 4)));
+        assertEquals(List.of(198), ids(snapshot.after(fire, 192, 1)));
+        assertTrue(snapshot.after(fire, 300, 1).isEmpty());
+        assertTrue(snapshot.after(fire, 0, 0).isEmpty());
+    }
+
+    @Test
+    void testMatchupsRankDefendersByBestMultiplier() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                pokemon(1, List.of("grass", "poison"), List.of()),
+                pokemon(6, List.of("fire", "flying"), List.of()),
+                pokemon(7, List.of("water"), List.of()),
+                pokemon(74, List.of("rock", "ground"), List.of()),
+                pokemon(92, List.of("ghost", "poison"), List.of())));
+
+        // Water/ground attacker, best of the two per defender: water 4x on rock/ground and 2x on fire/flying
+        // (where ground does nothing), ground 2x on ghost/poison, neither better than 1x on the rest
+        List<Matchup> matchups = snapshot.matchups(List.of("water", "ground"), 10);
+        assertEquals(List.of(74, 6, 92, 1, 7), matchups.stream().map(Matchup::id).toList());
+        assertEquals(List.of(4f, 2f, 2f, 1f, 1f), matchups.stream().map(Matchup::multiplier).toList());
+
+        assertEquals(List.of(74), snapshot.matchups(List.of("WATER"), 1).stream().map(Matchup::id).toList());
+        assertTrue(snapshot.matchups(List.of("shadow"), 10).isEmpty());
+        assertTrue(snapshot.matchups(List.of("water"), 0).isEmpty());
+    }
+
+    @Test
+    void testSnapshotIsReadOnly() {
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(pokemon(1), pokemon(2)));
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.all().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.page(0, 1).clear());
+    }
+
+    @Test
+    void testPublishSwapsSnapshot() {
+        PokemonCatalog catalog = new PokemonCatalog();
+        assertFalse(catalog.isLoaded());
+
+        CatalogSnapshot before = catalog.current();
+        catalog.publish(List.of(pokemon(25)));
+
+        assertTrue(catalog.isLoaded());
+        assertNotSame(before, catalog.current());
+        assertEquals(25, catalog.current().get(25).getId());
+    }
+
+    private Pokemon pokemon(int id, List<String> types, List<String> weaknesses) {
+        return pokemon(id).toBuilder().types(types).weaknesses(weaknesses).build();
+    }
+
+    private List<Integer> ids(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getId).toList();
+    }
+
+    private Pokemon pokemon(int id) {
+        return Pokemon.builder()
+                .id(id)
+                .name("Pokemon " + id)
+                .build();
+    }
+}
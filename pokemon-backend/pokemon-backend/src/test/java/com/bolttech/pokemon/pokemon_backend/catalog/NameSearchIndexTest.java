@@ -0,0 +1,93 @@
+package com.bolttech.pokemon.pokemon_backend.catalog;
+
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSearchIndexTest {
+
+    private static final List<String> NAMES = List.of("Bulbasaur", "Ivysaur", "Venusaur", "Charmander", "Charmeleon",
+            "Charizard", "Squirtle", "Wartortle", "Blastoise", "Pikachu", "Raichu", "Mr-mime", "Chansey", "Mew", "Mewtwo");
+
+    private final CatalogSnapshot snapshot = CatalogSnapshot.of(pokemons(NAMES));
+
+    @Test
+    void testPrefixMatchesRankShortestFirst() {
+        assertEquals(List.of("Mew", "Mewtwo"), names(snapshot.search("mew", 10)));
+        // Chansey is one edit away from "char", so it only comes after every real prefix match
+        assertEquals(List.of("Charizard", "Charmander", "Charmeleon", "Chansey"), names(snapshot.search("CHAR", 10)));
+        assertEquals(List.of("Charizard"), names(snapshot.search("char", 1)));
+        assertEquals(List.of("Mr-mime"), names(snapshot.search("mr mime", 10)));
+    }
+
+    @Test
+    void testTyposFindTheClosestNames() {
+        assertEquals("Charizard", names(snapshot.search("charzard", 5)).get(0));
+        assertEquals("Pikachu", names(snapshot.search("pikchu", 5)).get(0));
+        // Unfinished name with a typo still completes
+        assertEquals("Squirtle", names(snapshot.search("sqirt", 5)).get(0));
+        // Prefix matches come before fuzzy ones
+        List<String> blast = names(snapshot.search("blas", 5));
+        assertEquals("Blastoise", blast.get(0));
+        assertTrue(snapshot.search("xyzzy", 5).isEmpty());
+    }
+
+    @Test
+    void testBlankQueriesReturnNothing() {
+        assertTrue(snapshot.search("", 10).isEmpty());
+        assertTrue(snapshot.search("  -", 10).isEmpty());
+        assertTrue(snapshot.search(null, 10).isEmpty());
+        assertTrue(snapshot.search("char", 0).isEmpty());
+        assertTrue(CatalogSnapshot.empty().search("char", 10).isEmpty());
+    }
+
+    @Test
+    void testDistanceToPrefixAndWholeName() {
+        assertArrayEquals(new int[]{0, 5}, NameSearchIndex.distance("char", "charizard", 2));
+        assertArrayEquals(new int[]{1, 1}, NameSearchIndex.distance("charzard", "charizard", 2));
+        assertNull(NameSearchIndex.distance("squirtle", "bulbasaur", 2));
+    }
+
+    /**
+     * Keystroke-rate throughput on a National Dex sized catalog; reported, with a loose floor.
+     */
+    @Test
+    void testLargeCatalogFindsEveryNameAndBoundsResults() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(NAMES);
+        String[] syllables = {"ba", "chu", "dra", "gon", "pi", "ka", "saur", "mon", "ti", "lo", "ra", "zor", "fen", "nix"};
+        while (names.size() < 1300) {
+            StringBuilder name = new StringBuilder();
+            for (int s = 2 + random.nextInt(3); s > 0; s--) name.append(syllables[random.nextInt(syllables.length)]);
+            names.add(name.toString());
+        }
+        CatalogSnapshot large = CatalogSnapshot.of(pokemons(names));
+
+        for (int i = 0; i < 200; i++) {
+            String name = names.get(random.nextInt(names.size()));
+            assertEquals(name, large.search(name, 10).get(0).getName());
+            assertEquals(10, large.search(name.substring(0, 1), 10).size());
+        }
+    }
+
+    private static List<Pokemon> pokemons(List<String> names) {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int i = 0; i < names.size(); i++) {
+            Pokemon p = Pokemon.builder()
+                    .id(i + 1)
+                    .name(names.get(i))
+                    .build();
+            pokemons.add(p);
+        }
+        return pokemons;
+    }
+
+    private static List<String> names(List<Pokemon> pokemons) {
+        return pokemons.stream().map(Pokemon::getName).toList();
+    }
+}
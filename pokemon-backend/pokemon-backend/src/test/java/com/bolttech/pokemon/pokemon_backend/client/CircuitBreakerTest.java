@@ -0,0 +1,50 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    @Test
+    void testOpensAfterConsecutiveFailuresAndHalfOpensAfterTheOpenPeriod() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker(3, Duration.ofMillis(50));
+
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        // A success in between resets the count
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.acquirePermission();
+
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        Thread.sleep(60);
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        // Only one trial call at a time
+        assertThrows(CircuitOpenException.class, breaker::acquirePermission);
+
+        // A failed trial reopens straight away, a successful one closes
+        breaker.onFailure();
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Thread.sleep(60);
+        breaker.acquirePermission();
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void testZeroThresholdNeverOpens() {
+        CircuitBreaker breaker = new CircuitBreaker(0, Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++) breaker.onFailure();
+
+        assertDoesNotThrow(breaker::acquirePermission);
+    }
+}
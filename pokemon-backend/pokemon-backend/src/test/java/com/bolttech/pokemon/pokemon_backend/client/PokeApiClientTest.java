@@ -0,0 +1,132 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PokeApiClientTest {
+
+    private static final String ETAG = "\"abc123\"";
+
+    private HttpServer server;
+
+    private PokeApiClient client;
+
+    private final UpstreamClientStats stats = new UpstreamClientStats("test");
+
+    private final PokemonPayloadExtractor extractor = spy(new PokemonPayloadExtractor(new ObjectMapper()));
+
+    private volatile String body = "{\"name\": \"bulbasaur\", \"types\": [{\"slot\": 1, \"type\": {\"name\": \"grass\"}}]}";
+
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // Honours If-None-Match
+        server.createContext("/pokemon/1", exchange -> {
+            if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", ETAG);
+            send(exchange, body);
+        });
+        // Sends no validators and ignores conditionals
+        server.createContext("/pokemon/2", exchange -> send(exchange, body));
+        server.start();
+
+        PokemonProperties properties = new PokemonProperties();
+        properties.getUpstream().setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        client = new PokeApiClient(new RestTemplate(), extractor, stats, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testEtagRevalidationReturnsNotModified() {
+        FetchResult first = client.fetchPokemon(1, null);
+        assertFalse(first.notModified());
+        assertEquals("bulbasaur", first.payload().name());
+        assertEquals(ETAG, first.validators().etag());
+
+        FetchResult second = client.fetchPokemon(1, first.validators());
+        assertTrue(second.notModified());
+        assertNull(second.payload());
+        assertEquals(first.validators(), second.validators());
+        assertEquals(1, notModifiedResponses.get());
+    }
+
+    @Test
+    void testIdenticalBodyWithoutValidatorsCountsAsUnchanged() throws IOException {
+        FetchResult first = client.fetchPokemon(2, null);
+        assertNull(first.validators().etag());
+        assertNotNull(first.validators().contentHash());
+
+        FetchResult same = client.fetchPokemon(2, first.validators());
+        assertTrue(same.notModified());
+        assertEquals(first.validators(), same.validators());
+        // Only the first body was parsed; the identical one was recognised by its hash alone
+        verify(extractor, times(1)).extract(any());
+
+        body = body.replace("grass", "poison");
+        FetchResult changed = client.fetchPokemon(2, first.validators());
+        assertFalse(changed.notModified());
+        assertEquals("poison", changed.payload().types().get(0));
+    }
+
+    @Test
+    void testRequestsAreTimedByResourceAndStatus() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        stats.bindTo(registry);
+
+        FetchResult first = client.fetchPokemon(1, null);
+        client.fetchPokemon(1, first.validators());
+        client.fetchPokemon(1, first.validators());
+        assertThrows(HttpClientErrorException.NotFound.class, () -> client.fetchPokemon(404, null));
+
+        assertEquals(1, timer(registry, "200").count());
+        assertEquals(2, timer(registry, "304").count());
+        Timer notFound = timer(registry, "404");
+        assertEquals(1, notFound.count());
+        assertEquals("CLIENT_ERROR", notFound.getId().getTag("outcome"));
+        assertTrue(notFound.totalTime(TimeUnit.NANOSECONDS) > 0);
+    }
+
+    private static Timer timer(SimpleMeterRegistry registry, String status) {
+        return registry.get("pokemon.upstream.requests").tags("resource", "pokemon", "status", status).timer();
+    }
+
+    private void send(HttpExchange exchange, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
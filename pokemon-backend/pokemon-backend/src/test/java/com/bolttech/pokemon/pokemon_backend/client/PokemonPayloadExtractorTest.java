@@ -0,0 +1,127 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonPayloadExtractorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PokemonPayloadExtractor extractor = new PokemonPayloadExtractor(objectMapper);
+
+    @Test
+    void testExtractsFieldsFromFixture() throws IOException {
+        PokemonPayload bulbasaur = extractor.extract(new ByteArrayInputStream(fixture("pokemon-1.json")));
+
+        assertEquals("bulbasaur", bulbasaur.name());
+        assertEquals(List.of("grass", "poison"), bulbasaur.types());
+        // Top-level sprites only, not the nested "other"/"versions" ones with the same keys
+        assertEquals("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/1.png",
+                bulbasaur.frontImage());
+        assertEquals("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/back/1.png",
+                bulbasaur.backImage());
+
+        assertEquals(1, bulbasaur.speciesId());
+
+        PokemonPayload charizard = extractor.extract(new ByteArrayInputStream(fixture("pokemon-6.json")));
+        assertEquals("charizard", charizard.name());
+        assertEquals(List.of("fire", "flying"), charizard.types());
+    }
+
+    @Test
+    void testExtractsGenerationRegionAndSpecies() throws IOException {
+        String list = """
+                {"count": 2, "next": null, "results": [
+                  {"name": "generation-i", "url": "https://pokeapi.co/api/v2/generation/1/"},
+                  {"name": "generation-ii", "url": "https://pokeapi.co/api/v2/generation/2/"}]}
+                """;
+        String generation = """
+                {"abilities": [], "id": 2, "main_region": {"name": "johto", "url": "https://pokeapi.co/api/v2/region/2/"},
+                 "moves": [{"name": "x", "url": "https://pokeapi.co/api/v2/move/1/"}],
+                 "pokemon_species": [{"name": "chikorita", "url": "https://pokeapi.co/api/v2/pokemon-species/152/"},
+                                     {"name": "celebi", "url": "https://pokeapi.co/api/v2/pokemon-species/251/"}]}
+                """;
+
+        assertEquals(List.of("https://pokeapi.co/api/v2/generation/1/", "https://pokeapi.co/api/v2/generation/2/"),
+                extractor.extractResultUrls(stream(list)));
+        GenerationPayload johto = extractor.extractGeneration(stream(generation));
+        assertEquals("johto", johto.region());
+        assertEquals(List.of(152, 251), johto.speciesIds());
+        assertEquals(0, PokemonPayloadExtractor.idFromUrl("https://pokeapi.co/api/v2/pokemon-species/"));
+    }
+
+    @Test
+    void testMatchesTreeBasedParsing() throws IOException {
+        for (String name : List.of("pokemon-1.json", "pokemon-6.json")) {
+            byte[] body = fixture(name);
+            assertEquals(parseWithTree(body), extractor.extract(new ByteArrayInputStream(body)));
+        }
+    }
+
+    @Test
+    void testNullSpritesAndMissingTypes() throws IOException {
+        String json = """
+                {"name": "missingno", "sprites": {"front_default": null, "back_default": null}}
+                """;
+
+        PokemonPayload payload = extractor.extract(stream(json));
+
+        assertEquals("missingno", payload.name());
+        assertNull(payload.frontImage());
+        assertNull(payload.backImage());
+        assertTrue(payload.types().isEmpty());
+    }
+
+    @Test
+    void testRejectsMalformedPayloads() {
+        assertThrows(JsonParseException.class, () -> extractor.extract(stream("[1, 2, 3]")));
+        assertThrows(JsonParseException.class, () -> extractor.extract(stream("{\"id\": 1}")));
+        assertThrows(IOException.class, () -> extractor.extract(stream("{\"name\": \"bulbasaur\", \"types\": [")));
+    }
+
+    /**
+     * Same fields as the previous path (String body + objectMapper.readTree) on the fixtures.
+     * Allocation and latency are compared in PokemonPayloadExtractorBenchmark.
+     */
+    @Test
+    void testStreamingMatchesTreeParsing() throws IOException {
+        for (String name : List.of("pokemon-1.json", "pokemon-6.json")) {
+            byte[] body = fixture(name);
+            assertEquals(parseWithTree(body), extractor.extract(new ByteArrayInputStream(body)), name);
+        }
+    }
+
+    // The previous fetchPokemonFromAPI path: body as String, then a full JsonNode tree
+    private PokemonPayload parseWithTree(byte[] body) throws IOException {
+        JsonNode node = objectMapper.readTree(new String(body, StandardCharsets.UTF_8));
+        JsonNode sprites = node.get("sprites");
+        List<String> types = new ArrayList<>();
+        node.get("types").forEach(t -> types.add(t.get("type").get("name").asText()));
+        String species = node.path("species").path("url").asText("");
+        return new PokemonPayload(node.get("name").asText(),
+                sprites.get("front_default").asText(), sprites.get("back_default").asText(), types,
+                species.isEmpty() ? 0 : Integer.parseInt(species.replaceAll(".*/(\\d+)/?$", "$1")));
+    }
+
+    private byte[] fixture(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/pokeapi/" + name)) {
+            assertNotNull(in, "missing fixture " + name);
+            return in.readAllBytes();
+        }
+    }
+
+    private InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    @Test
+    void testBurstIsImmediateThenCallsAreSpacedAtTheRate() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(20, 5);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) bucket.acquire();
+        long burstMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        for (int i = 0; i < 10; i++) bucket.acquire();
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(burstMillis < 100, "burst took " + burstMillis + " ms");
+        // 10 calls beyond the burst at 20/s need about 500 ms
+        assertTrue(totalMillis >= 450, "15 calls took only " + totalMillis + " ms");
+    }
+
+    @Test
+    void testZeroRateDisablesLimiting() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(0, 1);
+
+        for (int i = 0; i < 1000; i++) assertEquals(0, bucket.acquire());
+    }
+}
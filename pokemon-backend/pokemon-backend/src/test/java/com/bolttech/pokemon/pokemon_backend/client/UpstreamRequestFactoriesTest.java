@@ -0,0 +1,103 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamRequestFactoriesTest {
+
+    private HttpServer server;
+
+    private ClientHttpRequestFactory requestFactory;
+
+    private final PokemonProperties properties = new PokemonProperties();
+
+    private final UpstreamClientStats stats = new UpstreamClientStats("pooled");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        byte[] fixture;
+        try (InputStream in = getClass().getResourceAsStream("/pokeapi/pokemon-1.json")) {
+            fixture = in.readAllBytes();
+        }
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/pokemon/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, fixture.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(fixture);
+            }
+        });
+        // Sends a byte every 100 ms: never trips the read timeout, only the total timeout
+        server.createContext("/slow/", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int i = 0; i < 50; i++) {
+                    out.write(' ');
+                    out.flush();
+                    Thread.sleep(100);
+                }
+            } catch (Exception ignored) {
+                // client aborted
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        properties.getUpstream().setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.getUpstream().setReadTimeout(Duration.ofSeconds(2));
+        properties.getUpstream().setTotalTimeout(Duration.ofMillis(500));
+        requestFactory = UpstreamRequestFactories.create(properties.getUpstream(), stats);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        ((DisposableBean) requestFactory).destroy();
+        server.stop(0);
+    }
+
+    @Test
+    void testKeepAliveConnectionsAreReused() {
+        PokeApiClient client = new PokeApiClient(new RestTemplate(requestFactory),
+                new PokemonPayloadExtractor(new ObjectMapper()), stats, properties);
+
+        for (int id = 1; id <= 20; id++) {
+            assertEquals("bulbasaur", client.fetchPokemon(id).name());
+        }
+
+        UpstreamClientStats.Snapshot snapshot = client.stats();
+        assertEquals(20, snapshot.requests());
+        assertEquals(1, snapshot.connectionsOpened());
+        assertEquals(0.95, snapshot.reuseRatio(), 0.001);
+        assertEquals(1, snapshot.available());
+        assertEquals(0, snapshot.leased());
+    }
+
+    @Test
+    void testTotalTimeoutAbortsTricklingResponse() {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        String url = properties.getUpstream().getBaseUrl() + "/slow/1";
+
+        long started = System.nanoTime();
+        assertThrows(RestClientException.class, () -> restTemplate.getForObject(url, String.class));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis < 2000, "aborted after " + elapsedMillis + " ms");
+    }
+}
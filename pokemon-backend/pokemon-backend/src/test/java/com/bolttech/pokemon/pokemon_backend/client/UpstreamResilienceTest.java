@@ -0,0 +1,220 @@
+package com.bolttech.pokemon.pokemon_backend.client;
+
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.fasterxml.jackson.core.JsonParseException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpstreamResilienceTest {
+
+    private final UpstreamClientStats stats = new UpstreamClientStats("test");
+
+    @Test
+    void testRetriesTransientFailuresOnly() {
+        UpstreamResilience resilience = new UpstreamResilience(config(), stats);
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = resilience.call(() -> {
+            if (calls.incrementAndGet() < 3) throw HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "", null, null, null);
+            return "ok";
+        });
+        assertEquals("ok", result);
+        assertEquals(3, calls.get());
+        assertEquals(2, stats.snapshot().retries());
+
+        // A 404 is an answer, not an outage
+        calls.set(0);
+        assertThrows(HttpClientErrorException.class, () -> resilience.call(() -> {
+            calls.incrementAndGet();
+            throw HttpClientErrorException.create(HttpStatus.NOT_FOUND, "", null, null, null);
+        }));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        UpstreamResilience resilience = new UpstreamResilience(config(), stats);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ResourceAccessException.class, () -> resilience.call(() -> {
+            calls.incrementAndGet();
+            throw new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+        }));
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void testOpenCircuitFailsFastWithoutCallingUpstream() {
+        PokemonProperties.Resilience config = config();
+        config.setMaxAttempts(1);
+        config.setBreakerFailureThreshold(2);
+        UpstreamResilience resilience = new UpstreamResilience(config, stats);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(HttpServerErrorException.class, () -> resilience.call(() -> {
+                calls.incrementAndGet();
+                throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null);
+            }));
+        }
+        assertThrows(CircuitOpenException.class, () -> resilience.call(calls::incrementAndGet));
+
+        assertEquals(2, calls.get());
+        assertEquals(CircuitBreaker.State.OPEN, resilience.breakerState());
+        assertEquals(1, stats.snapshot().shortCircuited());
+    }
+
+    @Test
+    void testSlowAttemptIsHedgedAndFirstSuccessWins() {
+        PokemonProperties.Resilience config = config();
+        config.setHedgeDelay(Duration.ofMillis(20));
+        UpstreamResilience resilience = new UpstreamResilience(config, stats);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        String result = resilience.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                // First request hangs until the hedge has answered
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "slow";
+            }
+            return "hedge";
+        });
+        release.countDown();
+
+        assertEquals("hedge", result);
+        assertEquals(1, stats.snapshot().hedges());
+    }
+
+    @Test
+    void testLosingRequestIsCancelled() throws InterruptedException {
+        PokemonProperties.Resilience config = config();
+        config.setHedgeDelay(Duration.ofMillis(20));
+        UpstreamResilience resilience = new UpstreamResilience(config, stats);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+
+        String result = resilience.call(() -> {
+            if (calls.incrementAndGet() == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    loserInterrupted.countDown();
+                }
+                return "slow";
+            }
+            return "hedge";
+        });
+
+        assertEquals("hedge", result);
+        assertTrue(loserInterrupted.await(2, TimeUnit.SECONDS), "the slower request was not cancelled");
+    }
+
+    @Test
+    void testInterruptStopsAHedgedCallWithoutClosingTheCircuit() throws Exception {
+        PokemonProperties.Resilience config = config();
+        config.setMaxAttempts(1);
+        config.setHedgeDelay(Duration.ofMillis(20));
+        config.setBreakerFailureThreshold(1);
+        config.setBreakerOpenDuration(Duration.ofMillis(1));
+        UpstreamResilience resilience = new UpstreamResilience(config, stats);
+        assertThrows(HttpServerErrorException.class, () -> resilience.call(() -> {
+            throw HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null);
+        }));
+        Thread.sleep(5);
+
+        // The half-open trial hangs in both requests until its caller is interrupted
+        CountDownLatch requestsInterrupted = new CountDownLatch(2);
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread caller = new Thread(() -> {
+            try {
+                resilience.call(() -> {
+                    try {
+                        Thread.sleep(10_000);
+                    } catch (InterruptedException e) {
+                        requestsInterrupted.countDown();
+                        Thread.currentThread().interrupt();
+                    }
+                    return "late";
+                });
+            } catch (RuntimeException e) {
+                thrown.set(e);
+            }
+        });
+        caller.start();
+        Thread.sleep(200);
+        caller.interrupt();
+        caller.join(2_000);
+
+        assertFalse(caller.isAlive());
+        assertInstanceOf(IllegalStateException.class, thrown.get());
+        assertTrue(requestsInterrupted.await(2, TimeUnit.SECONDS), "the hedged requests were not cancelled");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, resilience.breakerState());
+        // The trial slot was given back, so the next call is let through
+        assertEquals("ok", resilience.call(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.breakerState());
+    }
+
+    @Test
+    void testAttemptRunsUnhedgedOnTheCallerWhenTheHedgePoolIsFull() throws Exception {
+        PokemonProperties.Resilience config = config();
+        config.setHedgeDelay(Duration.ofMillis(20));
+        config.setHedgeMaxConcurrency(2);
+        UpstreamResilience resilience = new UpstreamResilience(config, stats);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch poolFull = new CountDownLatch(2);
+
+        // One slow call takes both pool threads (its request and the hedge)
+        Thread slow = new Thread(() -> resilience.call(() -> {
+            poolFull.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "slow";
+        }));
+        slow.start();
+        assertTrue(poolFull.await(2, TimeUnit.SECONDS));
+
+        String thread = resilience.call(() -> Thread.currentThread().getName());
+        release.countDown();
+        slow.join(2_000);
+
+        assertEquals(Thread.currentThread().getName(), thread);
+        assertEquals(1, stats.snapshot().hedges());
+    }
+
+    @Test
+    void testTransientClassification() {
+        assertTrue(UpstreamResilience.isTransient(new ResourceAccessException("I/O error", new SocketTimeoutException())));
+        assertTrue(UpstreamResilience.isTransient(HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "", null, null, null)));
+        assertFalse(UpstreamResilience.isTransient(new RestClientException("Error while extracting response",
+                new JsonParseException(null, "Unexpected character"))));
+        assertFalse(UpstreamResilience.isTransient(new IllegalStateException("Empty response body")));
+    }
+
+    private PokemonProperties.Resilience config() {
+        PokemonProperties.Resilience config = new PokemonProperties.Resilience();
+        config.setBackoffBase(Duration.ofMillis(1));
+        config.setBackoffMax(Duration.ofMillis(5));
+        return config;
+    }
+}
@@ -0,0 +1,72 @@
+package com.bolttech.pokemon.pokemon_backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionExecutorConfigTest {
+
+    @Test
+    void testPlatformPoolHonoursConcurrencyLimit() {
+        PokemonProperties.Ingestion ingestion = new PokemonProperties.Ingestion();
+        ingestion.setExecutor(PokemonProperties.ExecutorMode.PLATFORM);
+        ingestion.setMaxConcurrency(3);
+
+        ExecutorService executor = IngestionExecutorConfig.create(ingestion);
+        try {
+            assertTrue(executor instanceof ThreadPoolExecutor);
+            assertTrue(maxObservedConcurrency(executor, 30) <= 3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testConcurrencyLimitedExecutorHonoursLimit() {
+        ExecutorService executor = new IngestionExecutorConfig.ConcurrencyLimitedExecutor(
+                Executors.newCachedThreadPool(), 2);
+        try {
+            assertTrue(maxObservedConcurrency(executor, 20) <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testAutoModeMatchesRuntime() {
+        ExecutorService executor = IngestionExecutorConfig.create(new PokemonProperties.Ingestion());
+        try {
+            boolean virtualAvailable = Runtime.version().feature() >= 21;
+            assertEquals(virtualAvailable, executor instanceof IngestionExecutorConfig.ConcurrencyLimitedExecutor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int maxObservedConcurrency(ExecutorService executor, int tasks) {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                max.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+            }, executor));
+        }
+        futures.forEach(CompletableFuture::join);
+        return max.get();
+    }
+}
@@ -0,0 +1,45 @@
+package com.bolttech.pokemon.pokemon_backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebAsyncConfigTest {
+
+    @Test
+    void testWritesBeyondThePoolAndQueueAreRejectedInsteadOfRunOnTheCaller() throws InterruptedException {
+        PokemonProperties properties = new PokemonProperties();
+        properties.getHttp().setStreamThreads(1);
+        properties.getHttp().setStreamQueueCapacity(1);
+        ThreadPoolTaskExecutor executor = new WebAsyncConfig(properties).pokemonMvcAsyncExecutor();
+        executor.initialize();
+        CountDownLatch stalled = new CountDownLatch(1);
+        try {
+            // One write blocked on a client that stopped reading, one waiting behind it
+            executor.execute(() -> await(stalled));
+            executor.execute(() -> await(stalled));
+
+            Thread caller = Thread.currentThread();
+            CountDownLatch ranOnCaller = new CountDownLatch(1);
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {
+                if (Thread.currentThread() == caller) ranOnCaller.countDown();
+            }));
+            assertEquals(1, ranOnCaller.getCount());
+        } finally {
+            stalled.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
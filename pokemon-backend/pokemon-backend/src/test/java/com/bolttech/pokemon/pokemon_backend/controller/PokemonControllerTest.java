@@ -1,17 +1,40 @@
 package com.bolttech.pokemon.pokemon_backend.controller;
 
+import com.bolttech.pokemon.pokemon_backend.catalog.BatchResult;
+import com.bolttech.pokemon.pokemon_backend.catalog.CursorPage;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonFilter;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.exception.BatchTooLargeException;
+import com.bolttech.pokemon.pokemon_backend.exception.GlobalExceptionHandler;
+import com.bolttech.pokemon.pokemon_backend.exception.InvalidCursorException;
+import com.bolttech.pokemon.pokemon_backend.exception.PokemonNotFoundException;
 import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonJsonRenderer;
 import com.bolttech.pokemon.pokemon_backend.service.PokemonService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @ExtendWith(MockitoExtension.class)
 class PokemonControllerTest {
@@ -19,20 +42,25 @@ class PokemonControllerTest {
     @Mock
     private PokemonService pokemonService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final PokemonCatalog catalog = new PokemonCatalog();
+
     private PokemonController pokemonController;
 
     @BeforeEach
     void setUp() {
         // Use constructor injection for test
-        pokemonController = new PokemonController(pokemonService);
+        pokemonController = new PokemonController(pokemonService, new PokemonJsonRenderer(objectMapper, catalog),
+                new PokemonProperties());
     }
 
     @Test
-    void testGetPokemonsReturnsList() {
+    void testGetPokemonsReturnsList() throws IOException {
         Pokemon p = createPokemon(1, "Bulbasaur");
         when(pokemonService.fetchPokemonPage(0, 1)).thenReturn(List.of(p));
 
-        List<Pokemon> result = pokemonController.getPokemons(0, 1);
+        List<Pokemon> result = list(pokemonController.getPokemons(0, 1, null, null));
 
         assertNotNull(result);
         assertEquals(1, result.size());
@@ -41,11 +69,23 @@ class PokemonControllerTest {
     }
 
     @Test
-    void testGetPokemonByIdReturnsPokemon() {
+    void testGetPokemonsWithFiltersUsesFilteredPage() throws IOException {
+        Pokemon p = createPokemon(4, "Charmander");
+        PokemonFilter filter = new PokemonFilter(List.of("fire"), List.of("water"));
+        when(pokemonService.fetchPokemonPage(0, 10, filter)).thenReturn(List.of(p));
+
+        List<Pokemon> result = list(pokemonController.getPokemons(0, 10, List.of("Fire"), List.of("water")));
+
+        assertEquals(List.of("Charmander"), result.stream().map(Pokemon::getName).toList());
+        verify(pokemonService, never()).fetchPokemonPage(anyInt(), anyInt());
+    }
+
+    @Test
+    void testGetPokemonByIdReturnsPokemon() throws IOException {
         Pokemon p = createPokemon(25, "Pikachu");
         when(pokemonService.fetchPokemonById(25)).thenReturn(p);
 
-        Pokemon result = pokemonController.getPokemonById(25);
+        Pokemon result = objectMapper.readValue(pokemonController.getPokemonById(25).getBody(), Pokemon.class);
 
         assertNotNull(result);
         assertEquals(25, result.getId());
@@ -54,34 +94,133 @@ class PokemonControllerTest {
     }
 
     @Test
-    void testGetPokemonsEmptyList() {
+    void testGetPokemonsEmptyList() throws IOException {
         when(pokemonService.fetchPokemonPage(100, 10)).thenReturn(List.of());
 
-        List<Pokemon> result = pokemonController.getPokemons(100, 10);
+        List<Pokemon> result = list(pokemonController.getPokemons(100, 10, null, null));
 
         assertTrue(result.isEmpty());
         verify(pokemonService, times(1)).fetchPokemonPage(100, 10);
     }
 
     @Test
-    void testGetPokemonByIdReturnsNull() {
-        when(pokemonService.fetchPokemonById(999)).thenReturn(null);
-
-        Pokemon result = pokemonController.getPokemonById(999);
+    void testGetPokemonByIdNotFound() {
+        when(pokemonService.fetchPokemonById(999)).thenThrow(new PokemonNotFoundException(999));
 
-        assertNull(result);
+        assertThrows(PokemonNotFoundException.class, () -> pokemonController.getPokemonById(999));
         verify(pokemonService, times(1)).fetchPokemonById(999);
     }
 
+    @Test
+    void testPublishedPokemonIsWrittenFromPreRenderedBytes() throws IOException {
+        Pokemon pikachu = createPokemon(25, "Pikachu");
+        catalog.publish(List.of(createPokemon(1, "Bulbasaur"), pikachu));
+        when(pokemonService.fetchPokemonById(25)).thenReturn(pikachu);
+
+        ResponseEntity<byte[]> first = pokemonController.getPokemonById(25);
+        ResponseEntity<byte[]> second = pokemonController.getPokemonById(25);
+
+        assertSame(first.getBody(), second.getBody());
+        assertArrayEquals(objectMapper.writeValueAsBytes(pikachu), first.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, first.getHeaders().getContentType());
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+
+        // A republished, unchanged entry keeps its ETag; a changed one gets a new one
+        String etag = first.getHeaders().getETag();
+        catalog.publish(List.of(pikachu));
+        assertEquals(etag, pokemonController.getPokemonById(25).getHeaders().getETag());
+        Pokemon renamed = pikachu.toBuilder().name("Raichu").build();
+        catalog.publish(List.of(renamed));
+        when(pokemonService.fetchPokemonById(25)).thenReturn(renamed);
+        assertNotEquals(etag, pokemonController.getPokemonById(25).getHeaders().getETag());
+    }
+
+    @Test
+    void testMatchingIfNoneMatchGets304() throws Exception {
+        Pokemon bulbasaur = createPokemon(1, "Bulbasaur");
+        catalog.publish(List.of(bulbasaur));
+        when(pokemonService.fetchPokemonPage(0, 20)).thenReturn(List.of(bulbasaur));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(pokemonController).build();
+
+        MvcResult first = mvc.perform(get("/api/pokemons").param("page", "0").param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":1,\"name\":\"Bulbasaur\"}]"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertFalse(etag.startsWith("W/"), "ETag should be strong: " + etag);
+
+        mvc.perform(get("/api/pokemons").param("page", "0").param("size", "20")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        mvc.perform(get("/api/pokemons").param("page", "0").param("size", "20")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testCursorPagesAreCacheableAndRevalidated() throws Exception {
+        Pokemon bulbasaur = createPokemon(1, "Bulbasaur");
+        catalog.publish(List.of(bulbasaur, createPokemon(2, "Ivysaur")));
+        when(pokemonService.fetchPokemonPage(null, 1, PokemonFilter.NONE)).thenReturn(new CursorPage(List.of(bulbasaur), "next-1"));
+        when(pokemonService.fetchPokemonPage("bad", 20, PokemonFilter.NONE)).thenThrow(new InvalidCursorException("bad"));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(pokemonController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        MvcResult first = mvc.perform(get("/api/pokemons").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                .andExpect(jsonPath("$.pokemons[0].name").value("Bulbasaur"))
+                .andExpect(jsonPath("$.next").value("next-1"))
+                .andReturn();
+
+        mvc.perform(get("/api/pokemons").param("size", "1")
+                        .header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+        mvc.perform(get("/api/pokemons").param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
+        // Offset paging is still selected by the page parameter
+        verify(pokemonService, never()).fetchPokemonPage(anyInt(), anyInt());
+    }
+
+    @Test
+    void testBatchLookupByQueryOrBody() throws Exception {
+        Pokemon pikachu = createPokemon(25, "Pikachu");
+        Pokemon bulbasaur = createPokemon(1, "Bulbasaur");
+        when(pokemonService.fetchPokemonByIds(List.of(25, 3, 1)))
+                .thenReturn(new BatchResult(List.of(pikachu, bulbasaur), List.of(3)));
+        when(pokemonService.fetchPokemonByIds(List.of(1, 2, 3))).thenThrow(new BatchTooLargeException(3, 2));
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(pokemonController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mvc.perform(get("/api/pokemons/batch").param("ids", "25,3,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pokemons[0].name").value("Pikachu"))
+                .andExpect(jsonPath("$.pokemons[1].name").value("Bulbasaur"))
+                .andExpect(jsonPath("$.missing[0]").value(3));
+        mvc.perform(post("/api/pokemons/batch").contentType(MediaType.APPLICATION_JSON).content("[25,3,1]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pokemons.length()").value(2));
+        mvc.perform(get("/api/pokemons/batch").param("ids", "1,2,3"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Pokemon> list(ResponseEntity<byte[]> response) throws IOException {
+        return objectMapper.readValue(response.getBody(), new TypeReference<>() { });
+    }
+
     private Pokemon createPokemon(int id, String name) {
-        Pokemon p = new Pokemon();
-        p.setId(id);
-        p.setName(name);
-        p.setFrontImage("front.png");
-        p.setBackImage("back.png");
-        p.setTypes(List.of("normal"));
-        p.setRegion("Kanto");
-        p.setWeaknesses(List.of("fighting"));
-        return p;
+        return Pokemon.builder()
+                .id(id)
+                .name(name)
+                .frontImage("front.png")
+                .backImage("back.png")
+                .types(List.of("normal"))
+                .region("Kanto")
+                .weaknesses(List.of("fighting"))
+                .build();
     }
 }
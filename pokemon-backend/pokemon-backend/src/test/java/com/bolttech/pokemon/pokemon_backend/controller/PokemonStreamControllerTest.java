@@ -0,0 +1,134 @@
+package com.bolttech.pokemon.pokemon_backend.controller;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.config.WebAsyncConfig;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+/**
+ * Streaming endpoints against a running server.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"pokemon.catalog.snapshot-file=", "pokemon.ingestion.checkpoint-file="})
+class PokemonStreamControllerTest {
+
+    private static final int CATALOG_SIZE = 1025;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PokemonCatalog catalog;
+
+    @Autowired
+    @Qualifier(WebAsyncConfig.MVC_ASYNC_EXECUTOR)
+    private ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    // Keeps the warm-up away from PokeAPI; reads go to the catalog published below
+    @MockitoBean
+    private PokemonService pokemonService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    @BeforeEach
+    void setUp() {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 1; id <= CATALOG_SIZE; id++) {
+            pokemons.add(Pokemon.builder().id(id).name("pokemon-" + id)
+                    .types(List.of(id % 2 == 0 ? "fire" : "water")).region("Kanto")
+                    .weaknesses(List.of(id % 2 == 0 ? "water" : "grass")).build());
+        }
+        // Placeholder flag keeps the publish out of Redis and the snapshot file
+        catalog.publishFallback(pokemons);
+        when(pokemonService.streamPokemon(any(), anyInt())).thenAnswer(call ->
+                catalog.current().after(call.getArgument(0), call.getArgument(1), Integer.MAX_VALUE));
+        when(pokemonService.fetchPokemonPage(anyInt(), anyInt())).thenAnswer(call ->
+                catalog.current().page((int) call.getArgument(0), (int) call.getArgument(1)));
+    }
+
+    @Test
+    void testNdjsonStreamsTheWholeCatalogOneObjectPerLine() throws Exception {
+        HttpResponse<String> response = get("/api/pokemons/stream?type=fire&after=1000", "application/x-ndjson");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("application/x-ndjson"));
+        List<Integer> ids = new ArrayList<>();
+        for (String line : response.body().split("\n")) {
+            JsonNode pokemon = objectMapper.readTree(line);
+            assertEquals("fire", pokemon.get("types").get(0).asText());
+            ids.add(pokemon.get("id").asInt());
+        }
+        assertEquals(List.of(1002, 1004, 1006, 1008, 1010, 1012, 1014, 1016, 1018, 1020, 1022, 1024), ids);
+        assertEquals(CATALOG_SIZE, get("/api/pokemons/stream", "application/x-ndjson").body().split("\n").length);
+    }
+
+    @Test
+    void testServerSentEventsResumeFromLastEventIdAndEndExplicitly() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/pokemons/stream"))
+                .header("Accept", "text/event-stream")
+                .header("Last-Event-ID", "1022")
+                .build();
+
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        String[] events = response.body().trim().split("\n\n");
+        assertEquals(4, events.length);
+        assertTrue(events[0].startsWith("id:1023\ndata:{\"id\":1023,"), events[0]);
+        assertTrue(events[2].startsWith("id:1025\n"), events[2]);
+        assertEquals("event:end\ndata:{}", events[3]);
+    }
+
+    @Test
+    void testStreamCarriesTheSamePokemonAsPagingAndIsWrittenOnTheBoundedPool() throws Exception {
+        List<Integer> paged = new ArrayList<>();
+        for (int page = 0; ; page++) {
+            JsonNode entries = objectMapper.readTree(get("/api/pokemons?page=" + page + "&size=100", "application/json").body());
+            entries.forEach(pokemon -> paged.add(pokemon.get("id").asInt()));
+            if (entries.size() < 100) break;
+        }
+        List<Integer> streamed = new ArrayList<>();
+        for (String line : get("/api/pokemons/stream", "application/x-ndjson").body().split("\n")) {
+            streamed.add(objectMapper.readTree(line).get("id").asInt());
+        }
+
+        assertEquals(CATALOG_SIZE, paged.size());
+        assertEquals(paged, streamed);
+        assertTrue(mvcAsyncExecutor.getPoolSize() > 0);
+        assertTrue(mvcAsyncExecutor.getPoolSize() <= mvcAsyncExecutor.getMaxPoolSize());
+    }
+
+    private HttpResponse<String> get(String path, String accept) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri(path)).header("Accept", accept).build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
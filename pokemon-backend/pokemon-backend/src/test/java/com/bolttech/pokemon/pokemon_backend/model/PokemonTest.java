@@ -0,0 +1,113 @@
+package com.bolttech.pokemon.pokemon_backend.model;
+
+import com.bolttech.pokemon.pokemon_backend.type.TypeChart;
+import com.bolttech.pokemon.pokemon_backend.type.TypeProfile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonTest {
+
+    private static final String SPRITES = "https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/";
+
+    @Test
+    void testJsonContractIsUnchanged() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(charizard());
+
+        assertEquals("{\"id\":6,\"name\":\"Charizard\",\"types\":[\"fire\",\"flying\"],"
+                + "\"frontImage\":\"" + SPRITES + "6.png\",\"backImage\":\"" + SPRITES + "back/6.png\","
+                + "\"region\":\"Kanto\",\"weaknesses\":[\"rock\",\"water\",\"electric\"],"
+                + "\"resistances\":[\"grass\",\"bug\",\"fire\",\"fighting\",\"steel\",\"fairy\"],"
+                + "\"immunities\":[\"ground\"]}", json);
+
+        GenericJackson2JsonRedisSerializer redisJson = new GenericJackson2JsonRedisSerializer();
+        Pokemon read = (Pokemon) redisJson.deserialize(redisJson.serialize(charizard()));
+        assertEquals(json, new ObjectMapper().writeValueAsString(read));
+    }
+
+    @Test
+    void testValuesOutsideTheCompactEncodingAreKeptVerbatim() {
+        Pokemon odd = Pokemon.builder()
+                .id(10_001)
+                .name("Odd")
+                .types(List.of("shadow"))
+                .frontImage("https://example.com/front.png")
+                .backImage(null)
+                .weaknesses(List.of("water", "rock"))
+                .resistances(null)
+                .immunities(List.of())
+                .build();
+
+        assertEquals(List.of("shadow"), odd.getTypes());
+        assertEquals("https://example.com/front.png", odd.getFrontImage());
+        assertNull(odd.getBackImage());
+        assertEquals(List.of("water", "rock"), odd.getWeaknesses());
+        assertNull(odd.getResistances());
+        assertEquals(List.of(), odd.getImmunities());
+        assertNull(odd.getRegion());
+    }
+
+    @Test
+    void testEncodedValuesAreSharedAndCopiesAreIndependent() {
+        Pokemon a = charizard();
+        Pokemon b = charizard();
+        assertSame(a.getTypes(), b.getTypes());
+        assertSame(a.getWeaknesses(), b.getWeaknesses());
+        assertSame(a.getRegion(), b.getRegion());
+
+        Pokemon johto = a.toBuilder().region(new String("Johto")).build();
+        assertEquals("Johto", johto.getRegion());
+        assertEquals("Kanto", a.getRegion());
+        assertEquals(a.getFrontImage(), johto.getFrontImage());
+        assertThrows(UnsupportedOperationException.class, () -> a.getTypes().add("dragon"));
+    }
+
+    /**
+     * Entries built the way ingestion builds them (fresh Strings and lists, PokeAPI sprite URLs) are fully encoded,
+     * which is where the heap saving over the old bean layout comes from.
+     */
+    @Test
+    void testIngestedEntriesKeepNothingVerbatim() {
+        for (int id = 1; id <= 1025; id++) {
+            List<String> types = id % 2 == 0 ? List.of("fire", "flying") : List.of("grass");
+            TypeProfile profile = TypeChart.profile(types);
+            Pokemon p = Pokemon.builder()
+                    .id(id)
+                    .name(new String("Pokemon" + id))
+                    .types(new ArrayList<>(types))
+                    .frontImage(SPRITES + id + ".png")
+                    .backImage(SPRITES + "back/" + id + ".png")
+                    .region(new String("Kanto"))
+                    .weaknesses(new ArrayList<>(profile.weaknesses()))
+                    .resistances(new ArrayList<>(profile.resistances()))
+                    .immunities(new ArrayList<>(profile.immunities()))
+                    .build();
+
+            assertNull(ReflectionTestUtils.getField(p, "verbatim"), "entry " + id);
+            assertEquals(types, p.getTypes());
+            assertEquals(profile.weaknesses(), p.getWeaknesses());
+        }
+    }
+
+    private static Pokemon charizard() {
+        List<String> types = List.of("fire", "flying");
+        TypeProfile profile = TypeChart.profile(types);
+        return Pokemon.builder()
+                .id(6)
+                .name("Charizard")
+                .types(new ArrayList<>(types))
+                .frontImage(SPRITES + "6.png")
+                .backImage(SPRITES + "back/6.png")
+                .region(new String("Kanto"))
+                .weaknesses(profile.weaknesses())
+                .resistances(profile.resistances())
+                .immunities(profile.immunities())
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogWarmupTest {
+
+    @Mock
+    private PokemonService pokemonService;
+
+    private final PokemonCatalog catalog = new PokemonCatalog();
+
+    @Test
+    void testStartReturnsImmediatelyAndReadinessFlipsOnceLoaded() throws Exception {
+        CountDownLatch upstream = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            upstream.await(5, TimeUnit.SECONDS);
+            catalog.publish(List.of(pokemon(1)));
+            return null;
+        }).when(pokemonService).preLoadCache();
+        CatalogWarmup warmup = new CatalogWarmup(pokemonService);
+        CatalogReadinessIndicator readiness = new CatalogReadinessIndicator(catalog, warmup);
+
+        Thread thread = warmup.start(Duration.ofMillis(1234));
+
+        // Startup is done while PokeAPI is still "slow"
+        assertTrue(warmup.isRunning());
+        assertEquals(1234, warmup.getStartupMillis());
+        assertEquals(-1, warmup.getWarmupMillis());
+        assertEquals(Status.OUT_OF_SERVICE, readiness.health().getStatus());
+
+        upstream.countDown();
+        thread.join(5000);
+
+        Health health = readiness.health();
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(1, health.getDetails().get("size"));
+        assertFalse(warmup.isRunning());
+        assertTrue(warmup.getWarmupMillis() >= 0);
+    }
+
+    @Test
+    void testPlaceholderCatalogIsNotReady() throws Exception {
+        doAnswer(invocation -> {
+            catalog.publishFallback(List.of(pokemon(1)));
+            return null;
+        }).when(pokemonService).preLoadCache();
+        CatalogWarmup warmup = new CatalogWarmup(pokemonService);
+
+        warmup.start(Duration.ZERO).join(5000);
+
+        Health health = new CatalogReadinessIndicator(catalog, warmup).health();
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(true, health.getDetails().get("fallback"));
+    }
+
+    @Test
+    void testWarmupFailureIsContained() throws Exception {
+        doThrow(new IllegalStateException("boom")).when(pokemonService).preLoadCache();
+        CatalogWarmup warmup = new CatalogWarmup(pokemonService);
+
+        warmup.start(Duration.ZERO).join(5000);
+
+        assertFalse(warmup.isRunning());
+        assertEquals(Status.OUT_OF_SERVICE, new CatalogReadinessIndicator(catalog, warmup).health().getStatus());
+    }
+
+    private static Pokemon pokemon(int id) {
+        return Pokemon.builder()
+                .id(id)
+                .name("Pokemon " + id)
+                .build();
+    }
+}
@@ -0,0 +1,258 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.cache.CacheInvalidationSubscriber;
+import com.bolttech.pokemon.pokemon_backend.cache.IngestionCheckpoint;
+import com.bolttech.pokemon.pokemon_backend.cache.PokemonRedisStore;
+import com.bolttech.pokemon.pokemon_backend.cache.RefreshLease;
+import com.bolttech.pokemon.pokemon_backend.cache.SharedCatalogChangedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.client.PokeApiClient;
+import com.bolttech.pokemon.pokemon_backend.client.PokemonPayloadExtractor;
+import com.bolttech.pokemon.pokemon_backend.client.UpstreamClientStats;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.config.RedisConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Several replicas in one process sharing a real (embedded) Redis server and one stubbed PokeAPI.
+ */
+class CoordinatedRefreshTest {
+
+    private static final int CATALOG_SIZE = 30;
+
+    private static final String POKEMON_JSON = """
+            {"id": 1, "name": "bulbasaur", "types": [{"type": {"name": "grass"}}],
+             "sprites": {"front_default": "https://example.com/front.png"}}
+            """;
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+
+    // Pokémon detail requests that reached PokeAPI, across all replicas
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private final ExecutorService ingestionExecutor = Executors.newFixedThreadPool(4);
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private PokemonProperties properties;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = new RedisServer(port);
+        server.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory, new PokemonProperties());
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisConnection connection) -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        properties = new PokemonProperties();
+        properties.getIngestion().setLastId(CATALOG_SIZE);
+        properties.getIngestion().setBatchSize(10);
+        properties.getIngestion().setCheckpointFile("");
+        properties.getUpstream().setRateLimitPerSecond(0);
+        properties.getResilience().setMaxAttempts(1);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Replica replica : replicas) replica.subscriber.close();
+        ingestionExecutor.shutdownNow();
+    }
+
+    @Test
+    void testOnlyOneReplicaRebuildsAndTheOthersAdoptItsCatalog() throws Exception {
+        stubUpstream(0);
+        List<Replica> cluster = List.of(replica(), replica(), replica());
+
+        // All replicas start together, as after a rollout
+        ExecutorService starts = Executors.newFixedThreadPool(cluster.size());
+        try {
+            List<Future<?>> warmups = new ArrayList<>();
+            for (Replica replica : cluster) warmups.add(starts.submit(replica.service::preLoadCache));
+            for (Future<?> warmup : warmups) warmup.get();
+        } finally {
+            starts.shutdownNow();
+        }
+        waitFor(() -> cluster.stream().allMatch(r -> !r.catalog.current().isFallback() && r.catalog.isLoaded()));
+
+        assertEquals(CATALOG_SIZE, upstreamCalls.get());
+        CatalogSnapshot built = cluster.get(0).catalog.current();
+        for (Replica replica : cluster) {
+            CatalogSnapshot served = replica.catalog.current();
+            assertEquals(built.getVersion(), served.getVersion());
+            assertEquals(built.getPublishedAt().toEpochMilli(), served.getPublishedAt().toEpochMilli());
+            assertEquals(CATALOG_SIZE, served.size());
+        }
+
+        // The periodic check on every replica finds the shared catalog current
+        for (Replica replica : cluster) replica.service.refreshCache();
+        assertEquals(CATALOG_SIZE, upstreamCalls.get());
+    }
+
+    @Test
+    void testLeaseOfACrashedLeaderLapsesAndAnotherReplicaTakesOver() throws Exception {
+        properties.getRefresh().setLeaseTtl(Duration.ofMillis(300));
+        stubUpstream(0);
+        // Took the lease and died before rebuilding or releasing it
+        RefreshLease crashed = new RefreshLease(redisTemplate, properties);
+        assertTrue(crashed.tryAcquire());
+        Replica survivor = replica();
+
+        survivor.service.preLoadCache();
+
+        assertTrue(survivor.catalog.current().isFallback());
+        assertEquals("published placeholder data, refresh led by " + crashed.getNodeId(),
+                survivor.service.getCatalogStatus().lastRefreshOutcome());
+        assertEquals(0, upstreamCalls.get());
+
+        waitFor(() -> crashed.holder() == null);
+        survivor.service.refreshCache();
+
+        assertFalse(survivor.catalog.current().isFallback());
+        assertEquals(CATALOG_SIZE, survivor.catalog.current().size());
+        assertEquals(CATALOG_SIZE, upstreamCalls.get());
+    }
+
+    @Test
+    void testLeaderThatLosesItsLeaseMidRefreshDiscardsItsRebuild() {
+        properties.getRefresh().setLeaseTtl(Duration.ofMillis(100));
+        // Every batch outlasts the lease, so the renewal after the first one fails
+        stubUpstream(150);
+        Replica slow = replica();
+
+        slow.service.preLoadCache();
+
+        assertEquals("discarded rebuild, refresh lease lost", slow.service.getCatalogStatus().lastRefreshOutcome());
+        assertFalse(slow.catalog.isLoaded());
+        assertEquals(10, upstreamCalls.get());
+        assertNull(slow.store.readCatalog());
+    }
+
+    @Test
+    void testFailedRefreshIsNotRetriedByEveryReplicaInTurn() {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+                .thenAnswer(invocation -> {
+                    if (invocation.getArgument(0).toString().contains("/pokemon/")) upstreamCalls.incrementAndGet();
+                    throw new RestClientException("PokeAPI down");
+                });
+        Replica first = replica();
+        Replica second = replica();
+
+        first.service.preLoadCache();
+        second.service.refreshCache();
+
+        assertEquals(CATALOG_SIZE, upstreamCalls.get());
+        assertTrue(first.catalog.current().isFallback());
+        assertTrue(second.service.getCatalogStatus().lastRefreshOutcome().endsWith("refresh led by " + first.lease.getNodeId()));
+    }
+
+    // Every URI answers with the same Pokémon after the given delay
+    private void stubUpstream(long delayMillis) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+                .thenAnswer(invocation -> {
+                    if (invocation.getArgument(0).toString().contains("/pokemon/")) upstreamCalls.incrementAndGet();
+                    if (delayMillis > 0) Thread.sleep(delayMillis);
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(new MockClientHttpResponse(POKEMON_JSON.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+                });
+    }
+
+    private Replica replica() {
+        Replica replica = new Replica(properties);
+        replica.subscriber.ensureSubscribed();
+        replicas.add(replica);
+        return replica;
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertTrue(condition.getAsBoolean());
+    }
+
+    /**
+     * The beans of one application instance, with its application events delivered the way Spring would
+     */
+    private final class Replica {
+
+        final PokemonCatalog catalog;
+        final PokemonRedisStore store;
+        final RefreshLease lease;
+        final PokemonService service;
+        final CacheInvalidationSubscriber subscriber;
+
+        Replica(PokemonProperties properties) {
+            catalog = new PokemonCatalog(this::dispatch);
+            store = new PokemonRedisStore(redisTemplate, properties, this::dispatch);
+            lease = new RefreshLease(redisTemplate, properties);
+            PokeApiClient client = new PokeApiClient(restTemplate, new PokemonPayloadExtractor(new ObjectMapper()),
+                    new UpstreamClientStats("test"), properties);
+            service = new PokemonService(client, catalog, properties, ingestionExecutor, store,
+                    new IngestionCheckpoint(properties), lease);
+            subscriber = new CacheInvalidationSubscriber(connectionFactory, store);
+        }
+
+        private void dispatch(Object event) {
+            if (event instanceof CatalogPublishedEvent published) store.onCatalogPublished(published);
+            if (event instanceof SharedCatalogChangedEvent changed) service.onSharedCatalogChanged(changed);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.bolttech.pokemon.pokemon_backend.service;
+
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogPublishedEvent;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
+import com.bolttech.pokemon.pokemon_backend.service.PokemonJsonRenderer.RenderedJson;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PokemonJsonRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Object> events = new ArrayList<>();
+
+    private final PokemonCatalog catalog = new PokemonCatalog(events::add);
+
+    private final PokemonJsonRenderer renderer = new PokemonJsonRenderer(objectMapper, catalog);
+
+    @Test
+    void testPagesMatchJacksonOutput() throws Exception {
+        publish(catalog(60));
+        List<Pokemon> page = catalog.current().page(1, 20);
+
+        RenderedJson rendered = renderer.list(page);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(page), rendered.body());
+        assertArrayEquals("[]".getBytes(), renderer.list(List.of()).body());
+        assertEquals(rendered.etag(), renderer.list(catalog.current().page(1, 20)).etag());
+        assertNotEquals(rendered.etag(), renderer.list(catalog.current().page(2, 20)).etag());
+        assertNotEquals(renderer.list(page.subList(0, 1)).etag(), renderer.one(page.get(0)).etag());
+
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("pokemons", page);
+        envelope.put("next", null);
+        assertArrayEquals(objectMapper.writeValueAsBytes(envelope), renderer.page(page, null).body());
+        assertNotEquals(renderer.page(page, null).etag(), renderer.page(page, "abc").etag());
+    }
+
+    @Test
+    void testEntriesOutsideTheSnapshotAreSerializedOnTheSpot() throws Exception {
+        publish(catalog(10));
+        Pokemon fromRedis = pokemon(3).toBuilder().region("Johto").build();
+        List<Pokemon> mixed = List.of(catalog.current().get(1), fromRedis);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(mixed), renderer.list(mixed).body());
+        assertArrayEquals(objectMapper.writeValueAsBytes(fromRedis), renderer.one(fromRedis).body());
+        assertNotEquals(renderer.one(catalog.current().get(3)).etag(), renderer.one(fromRedis).etag());
+    }
+
+    @Test
+    void testRestoredSnapshotIsRenderedOnFirstUse() throws Exception {
+        assertTrue(catalog.restore(CatalogSnapshot.of(catalog(5))));
+        Pokemon restored = catalog.current().get(2);
+
+        RenderedJson first = renderer.one(restored);
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(restored), first.body());
+        assertSame(first.body(), renderer.one(restored).body());
+    }
+
+    @Test
+    void testEveryPageOfAFullDexMatchesJacksonOutput() throws Exception {
+        publish(catalog(1025));
+        CatalogSnapshot snapshot = catalog.current();
+
+        for (int page = 0; page <= snapshot.size() / 20; page++) {
+            List<Pokemon> pokemons = snapshot.page(page, 20);
+            assertArrayEquals(objectMapper.writeValueAsBytes(pokemons), renderer.list(pokemons).body(), "page " + page);
+        }
+    }
+
+    private void publish(List<Pokemon> pokemons) {
+        catalog.publish(pokemons);
+        renderer.onCatalogPublished((CatalogPublishedEvent) events.get(events.size() - 1));
+    }
+
+    private static List<Pokemon> catalog(int size) {
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 1; id <= size; id++) pokemons.add(pokemon(id));
+        return pokemons;
+    }
+
+    private static Pokemon pokemon(int id) {
+        return Pokemon.builder()
+                .id(id)
+                .name("pokemon-" + id)
+                .types(id % 2 == 0 ? List.of("fire", "flying") : List.of("water"))
+                .frontImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/" + id + ".png")
+                .backImage("https://raw.githubusercontent.com/PokeAPI/sprites/master/sprites/pokemon/back/" + id + ".png")
+                .region("Kanto")
+                .weaknesses(id % 2 == 0 ? List.of("electric", "rock", "water") : List.of("electric", "grass"))
+                .build();
+    }
+}
@@ -1,23 +1,68 @@
 package com.bolttech.pokemon.pokemon_backend.service;
 
+import com.bolttech.pokemon.pokemon_backend.cache.IngestionCheckpoint;
+import com.bolttech.pokemon.pokemon_backend.cache.PokemonRedisStore;
+import com.bolttech.pokemon.pokemon_backend.cache.RefreshLease;
+import com.bolttech.pokemon.pokemon_backend.catalog.BatchResult;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogSnapshot;
+import com.bolttech.pokemon.pokemon_backend.catalog.CatalogStatus;
+import com.bolttech.pokemon.pokemon_backend.catalog.CursorPage;
+import com.bolttech.pokemon.pokemon_backend.catalog.IngestionFailure;
+import com.bolttech.pokemon.pokemon_backend.catalog.IngestionReport;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonCatalog;
+import com.bolttech.pokemon.pokemon_backend.catalog.PokemonFilter;
+import com.bolttech.pokemon.pokemon_backend.client.PokeApiClient;
+import com.bolttech.pokemon.pokemon_backend.client.PokemonPayloadExtractor;
+import com.bolttech.pokemon.pokemon_backend.client.ResourceValidators;
+import com.bolttech.pokemon.pokemon_backend.client.UpstreamClientStats;
+import com.bolttech.pokemon.pokemon_backend.config.IngestionExecutorConfig;
+import com.bolttech.pokemon.pokemon_backend.config.PokemonProperties;
+import com.bolttech.pokemon.pokemon_backend.exception.BatchTooLargeException;
+import com.bolttech.pokemon.pokemon_backend.exception.InvalidCursorException;
 import com.bolttech.pokemon.pokemon_backend.exception.PokemonNotFoundException;
 import com.bolttech.pokemon.pokemon_backend.model.Pokemon;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,18 +75,19 @@ class PokemonServiceTest {
     private RestTemplate restTemplate;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private PokemonRedisStore redisStore;
 
     @Mock
-    private JsonNode mockJsonNode;
+    private RefreshLease lease;
 
-    @Mock
-    private JsonNode mockSpritesNode;
+    private PokemonService pokemonService;
 
-    @Mock
-    private JsonNode mockTypesNode;
+    private PokemonProperties properties;
 
-    private PokemonService pokemonService;
+    @TempDir
+    Path tempDir;
+
+    private final ExecutorService ingestionExecutor = Executors.newFixedThreadPool(4);
 
     // Capture console output to avoid spam
     private final ByteArrayOutputStream outContent = new ByteArrayOutputStream();
@@ -63,14 +109,31 @@ class PokemonServiceTest {
             }
             """;
 
+    private static final String ETAG = "\"v1\"";
+
     @BeforeEach
     void setUp() {
         // Redirect System.out and System.err to avoid console spam
         System.setOut(new PrintStream(outContent));
         System.setErr(new PrintStream(errContent));
 
-        // Use constructor injection
-        pokemonService = new PokemonService(restTemplate, objectMapper);
+        // Use constructor injection; first generation only, no rate limit and no checkpoint file
+        properties = new PokemonProperties();
+        properties.getIngestion().setLastId(150);
+        properties.getIngestion().setCheckpointFile("");
+        properties.getUpstream().setRateLimitPerSecond(0);
+        // Every refresh check is due, and this node always holds the refresh lease
+        properties.getRefresh().setInterval(Duration.ZERO);
+        lenient().when(lease.tryAcquire()).thenReturn(true);
+        lenient().when(lease.renew()).thenReturn(true);
+        pokemonService = createService(new PokemonCatalog());
+    }
+
+    private PokemonService createService(PokemonCatalog catalog) {
+        PokeApiClient pokeApiClient = new PokeApiClient(restTemplate, new PokemonPayloadExtractor(new ObjectMapper()),
+                new UpstreamClientStats("test"), properties);
+        return new PokemonService(pokeApiClient, catalog, properties, ingestionExecutor, redisStore,
+                new IngestionCheckpoint(properties), lease);
     }
 
     @AfterEach
@@ -78,19 +141,19 @@ class PokemonServiceTest {
         // Restore original System.out and System.err
         System.setOut(originalOut);
         System.setErr(originalErr);
+        ingestionExecutor.shutdownNow();
     }
 
     @Test
     void testPreLoadCache() {
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
         assertDoesNotThrow(() -> pokemonService.preLoadCache());
     }
 
     @Test
     void testFetchPokemonById_NotFound() {
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         PokemonNotFoundException exception = assertThrows(
                 PokemonNotFoundException.class,
@@ -101,40 +164,26 @@ class PokemonServiceTest {
     }
 
     @Test
-    void testFetchAllPokemon_Success() throws Exception {
+    void testPreLoadCache_Success() {
         // Setup successful API response
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenReturn(MOCK_POKEMON_JSON);
-
-        when(objectMapper.readTree(anyString())).thenReturn(mockJsonNode);
-        when(mockJsonNode.get("name")).thenReturn(mockJsonNode);
-        when(mockJsonNode.asText()).thenReturn("bulbasaur");
-        when(mockJsonNode.get("sprites")).thenReturn(mockSpritesNode);
-        when(mockSpritesNode.get("front_default")).thenReturn(mockJsonNode);
-        when(mockSpritesNode.get("back_default")).thenReturn(mockJsonNode);
-        when(mockJsonNode.get("types")).thenReturn(mockTypesNode);
-
-        // Mock the forEach method for types
-        doAnswer(invocation -> {
-            // Simulate processing one type - no actual iteration needed
-            return null;
-        }).when(mockTypesNode).forEach(any());
+        stubApiResponse(MOCK_POKEMON_JSON);
 
-        List<Pokemon> result = pokemonService.fetchAllPokemon();
+        pokemonService.preLoadCache();
 
-        assertNotNull(result);
-        assertTrue(result.size() >= 1);
+        CatalogStatus status = pokemonService.getCatalogStatus();
+        assertEquals(150, status.size());
+        assertFalse(status.fallback());
     }
 
     @Test
-    void testFetchAllPokemon_APIFailure_ReturnsFallback() {
+    void testPreLoadCache_APIFailure_PublishesFallback() {
         // Mock complete API failure
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
 
-        List<Pokemon> result = pokemonService.fetchAllPokemon();
+        pokemonService.preLoadCache();
 
-        assertNotNull(result);
+        List<Pokemon> result = pokemonService.fetchPokemonPage(0, 20);
+        assertTrue(pokemonService.getCatalogStatus().fallback());
         assertEquals(10, result.size()); // Fallback returns 10 placeholder Pokemon
         assertEquals("Pokemon 1", result.get(0).getName());
         assertEquals("normal", result.get(0).getTypes().get(0));
@@ -142,64 +191,91 @@ class PokemonServiceTest {
     }
 
     @Test
-    void testFetchAllPokemon_ParseError_ReturnsFallback() throws Exception {
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenReturn(MOCK_POKEMON_JSON);
-        when(objectMapper.readTree(anyString())).thenThrow(new RuntimeException("Parse error"));
+    void testPreLoadCache_ParseError_PublishesFallback() {
+        stubApiResponse("{\"name\": \"bulbasaur\", \"types\": [ truncated");
 
-        List<Pokemon> result = pokemonService.fetchAllPokemon();
+        pokemonService.preLoadCache();
 
-        assertNotNull(result);
-        assertEquals(10, result.size()); // Should return fallback data
+        CatalogStatus status = pokemonService.getCatalogStatus();
+        assertTrue(status.fallback());
+        assertEquals(10, status.size()); // Should publish fallback data
     }
 
     @Test
-    void testGetSimpleWeaknesses_AllTypes() {
-        // Test all switch cases in one test to reduce redundancy
-        assertEquals(Arrays.asList("water"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("fire")));
-
-        assertEquals(Arrays.asList("electric"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("water")));
-
-        assertEquals(Arrays.asList("fire"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("grass")));
-
-        assertEquals(Arrays.asList("ground"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("electric")));
-
-        assertEquals(Arrays.asList("ghost"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("psychic")));
-
-        assertEquals(Arrays.asList("water"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("rock")));
+    void testIngestion_DerivesTypeProfileFromTheChart() {
+        properties.getIngestion().setLastId(1);
+        stubApiResponse(MOCK_POKEMON_JSON.replace("{ \"type\": { \"name\": \"grass\" } }",
+                "{ \"type\": { \"name\": \"grass\" } }, { \"type\": { \"name\": \"poison\" } }"));
+
+        pokemonService.preLoadCache();
+
+        Pokemon bulbasaur = pokemonService.fetchPokemonById(1);
+        assertEquals(List.of("grass", "poison"), bulbasaur.getTypes());
+        assertEquals(List.of("fire", "ice", "flying", "psychic"), bulbasaur.getWeaknesses());
+        assertEquals(List.of("grass", "water", "electric", "fighting", "fairy"), bulbasaur.getResistances());
+        assertEquals(List.of(), bulbasaur.getImmunities());
+    }
 
-        assertEquals(Arrays.asList("normal"),
-                ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", Arrays.asList("unknown")));
+    @Test
+    void testRevalidation_RederivesProfileOfUnchangedEntries() {
+        // Entry published before type profiles existed, still current upstream (304)
+        Pokemon stale = Pokemon.builder()
+                .id(1)
+                .name("Bulbasaur")
+                .types(List.of("grass"))
+                .weaknesses(List.of("fire"))
+                .build();
+        PokemonCatalog catalog = new PokemonCatalog();
+        catalog.publish(List.of(stale), Map.of(1, new ResourceValidators(ETAG, null, "hash")));
+        properties.getIngestion().setLastId(1);
+        stubApiResponse(MOCK_POKEMON_JSON);
+        pokemonService = createService(catalog);
+
+        pokemonService.refreshCache();
+
+        Pokemon current = pokemonService.fetchPokemonById(1);
+        assertEquals(List.of("fire", "ice", "poison", "flying", "bug"), current.getWeaknesses());
+        assertEquals(List.of("water", "electric", "grass", "ground"), current.getResistances());
+        assertEquals(1, pokemonService.getCatalogStatus().lastIngestion().updated());
     }
 
     @Test
-    void testGetSimpleWeaknesses_MultipleTypes() {
-        List<String> types = Arrays.asList("fire", "water", "electric");
-        List<String> result = ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", types);
+    void testRevalidation_UnchangedAlternateFormTakesItsSpeciesRegion() {
+        // Mega form published before its region was known; its species (3) is stored with the validators
+        Pokemon mega = Pokemon.builder()
+                .id(10033)
+                .name("Venusaur-mega")
+                .types(List.of("grass", "poison"))
+                .region("Unknown")
+                .build();
+        PokemonCatalog catalog = new PokemonCatalog();
+        catalog.publish(List.of(mega), Map.of(10033, new ResourceValidators(ETAG, null, "hash", 3)));
+        properties.getIngestion().setFirstId(10033);
+        properties.getIngestion().setLastId(10033);
+        stubApiResponses(uri -> {
+            String path = uri.getPath();
+            if (path.endsWith("/generation")) return "{\"results\":[{\"name\":\"generation-i\",\"url\":\"https://pokeapi.co/api/v2/generation/1/\"}]}";
+            if (path.endsWith("/generation/1/")) {
+                return "{\"main_region\":{\"name\":\"kanto\"},\"pokemon_species\":[{\"name\":\"venusaur\",\"url\":\"https://pokeapi.co/api/v2/pokemon-species/3/\"}]}";
+            }
+            return MOCK_POKEMON_JSON;
+        });
+        pokemonService = createService(catalog);
 
-        assertNotNull(result);
-        assertEquals(3, result.size());
-        assertTrue(result.contains("water"));
-        assertTrue(result.contains("electric"));
-        assertTrue(result.contains("ground"));
+        pokemonService.refreshCache();
+
+        assertEquals("Kanto", pokemonService.fetchPokemonById(10033).getRegion());
+        assertEquals(3, catalog.current().validators(10033).speciesId());
     }
 
     @Test
-    void testGetSimpleWeaknesses_CaseInsensitive() {
-        List<String> types = Arrays.asList("FIRE", "Water", "GrAsS");
-        List<String> result = ReflectionTestUtils.invokeMethod(pokemonService, "getSimpleWeaknesses", types);
+    void testMatchupsRankDefendersAcrossTheCatalog() {
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
-        assertNotNull(result);
-        assertEquals(3, result.size());
-        assertTrue(result.contains("water"));
-        assertTrue(result.contains("electric"));
-        assertTrue(result.contains("fire"));
+        // Placeholder catalog is all normal type; normal hits normal for 1x
+        assertEquals(List.of(1f, 1f, 1f), pokemonService.fetchMatchups(1, 3).stream().map(m -> m.multiplier()).toList());
+        assertThrows(PokemonNotFoundException.class, () -> pokemonService.fetchMatchups(999, 3));
     }
 
     @Test
@@ -248,8 +324,8 @@ class PokemonServiceTest {
     @Test
     void testFetchPokemonPage_ValidRange() {
         // Mock API failure to get fallback data
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         List<Pokemon> result = pokemonService.fetchPokemonPage(0, 5);
 
@@ -262,8 +338,8 @@ class PokemonServiceTest {
     @Test
     void testFetchPokemonPage_SecondPage() {
         // Mock API failure to get fallback data
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         List<Pokemon> result = pokemonService.fetchPokemonPage(1, 5);
 
@@ -276,8 +352,8 @@ class PokemonServiceTest {
     @Test
     void testFetchPokemonPage_OutOfRange() {
         // Mock API failure to get fallback data
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         List<Pokemon> result = pokemonService.fetchPokemonPage(10, 5);
 
@@ -288,8 +364,8 @@ class PokemonServiceTest {
     @Test
     void testFetchPokemonPage_PartialLastPage() {
         // Mock API failure to get fallback data (10 total Pokemon)
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         List<Pokemon> result = pokemonService.fetchPokemonPage(1, 8);
 
@@ -299,11 +375,90 @@ class PokemonServiceTest {
         assertEquals("Pokemon 10", result.get(1).getName());
     }
 
+    @Test
+    void testCursorPaging_RefreshBetweenPagesNeitherRepeatsNorSkips() {
+        PokemonCatalog catalog = new PokemonCatalog();
+        pokemonService = createService(catalog);
+        catalog.publish(pokemonsWithIds(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+
+        CursorPage first = pokemonService.fetchPokemonPage(null, 4, PokemonFilter.NONE);
+        assertEquals(List.of(1, 2, 3, 4), first.pokemons().stream().map(Pokemon::getId).toList());
+
+        // Refresh mid-scroll: an already-seen entry disappears and new ones are appended
+        catalog.publish(pokemonsWithIds(1, 3, 5, 6, 7, 8, 9, 10, 11, 12));
+        List<Integer> rest = new ArrayList<>();
+        String next = first.next();
+        int pages = 0;
+        while (next != null) {
+            CursorPage page = pokemonService.fetchPokemonPage(next, 4, PokemonFilter.NONE);
+            page.pokemons().forEach(p -> rest.add(p.getId()));
+            next = page.next();
+            pages++;
+        }
+
+        assertEquals(List.of(5, 6, 7, 8, 9, 10, 11, 12), rest);
+        assertEquals(2, pages, "the last full page should not need an extra empty request");
+    }
+
+    @Test
+    void testCursorPaging_FiltersAndRejectsBadCursors() {
+        PokemonCatalog catalog = new PokemonCatalog();
+        pokemonService = createService(catalog);
+        List<Pokemon> pokemons = new ArrayList<>();
+        for (int id = 1; id <= 150; id++) {
+            pokemons.add(Pokemon.builder().id(id).name("Pokemon " + id)
+                    .types(List.of(id % 10 == 0 ? "fire" : "water")).build());
+        }
+        catalog.publish(pokemons);
+        PokemonFilter fire = new PokemonFilter(List.of("fire"), null);
+
+        CursorPage first = pokemonService.fetchPokemonPage("", 10, fire);
+        CursorPage second = pokemonService.fetchPokemonPage(first.next(), 10, fire);
+
+        assertEquals(List.of(10, 20, 30, 40, 50, 60, 70, 80, 90, 100), first.pokemons().stream().map(Pokemon::getId).toList());
+        assertEquals(List.of(110, 120, 130, 140, 150), second.pokemons().stream().map(Pokemon::getId).toList());
+        assertNull(second.next());
+        assertTrue(pokemonService.fetchPokemonPage(null, 0, fire).pokemons().isEmpty());
+        assertThrows(InvalidCursorException.class, () -> pokemonService.fetchPokemonPage("not a cursor", 10, fire));
+        assertThrows(InvalidCursorException.class, () -> pokemonService.fetchPokemonPage("AAAA", 10, fire));
+    }
+
+    @Test
+    void testBatchLookup_KeepsRequestOrderAndListsMissingIds() {
+        PokemonCatalog catalog = new PokemonCatalog();
+        pokemonService = createService(catalog);
+        catalog.publish(pokemonsWithIds(1, 4, 7, 25, 150));
+        properties.getHttp().setBatchMaxIds(5);
+
+        BatchResult batch = pokemonService.fetchPokemonByIds(Arrays.asList(150, 2, 4, null, 150, 1, 999));
+
+        assertEquals(List.of(150, 4, 1), batch.pokemons().stream().map(Pokemon::getId).toList());
+        assertEquals(List.of(2, 999), batch.missing());
+        verifyNoInteractions(redisStore);
+        assertThrows(BatchTooLargeException.class, () -> pokemonService.fetchPokemonByIds(List.of(1, 2, 3, 4, 5, 6)));
+    }
+
+    @Test
+    void testBatchLookup_PlaceholderNodeUsesOneRedisRoundTrip() {
+        stubApiFailure();
+        pokemonService.preLoadCache();
+        Pokemon shared = Pokemon.builder().id(500).name("Shared").build();
+        when(redisStore.getAll(any())).thenReturn(new Pokemon[]{shared, null, null});
+
+        BatchResult batch = pokemonService.fetchPokemonByIds(List.of(500, 3, 777));
+
+        // Gaps in the shared catalog fall back to the placeholders
+        assertEquals(List.of("Shared", "Pokemon 3"), batch.pokemons().stream().map(Pokemon::getName).toList());
+        assertEquals(List.of(777), batch.missing());
+        verify(redisStore, times(1)).getAll(any());
+        verify(redisStore, never()).get(anyInt());
+    }
+
     @Test
     void testFetchPokemonById_Found() {
         // Mock API failure to get fallback data
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         Pokemon result = pokemonService.fetchPokemonById(5);
 
@@ -315,8 +470,8 @@ class PokemonServiceTest {
     @Test
     void testFetchPokemonById_FirstPokemon() {
         // Mock API failure to get fallback data
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
+        pokemonService.preLoadCache();
 
         Pokemon result = pokemonService.fetchPokemonById(1);
 
@@ -325,11 +480,247 @@ class PokemonServiceTest {
         assertEquals("Pokemon 1", result.getName());
     }
 
+    @Test
+    void testPlaceholderNode_ServesSharedCatalogFromRedis() {
+        stubApiFailure();
+        pokemonService.preLoadCache();
+        Pokemon shared = Pokemon.builder()
+                .id(25)
+                .name("Pikachu")
+                .build();
+        when(redisStore.page(0, 1)).thenReturn(List.of(shared));
+        when(redisStore.get(25)).thenReturn(shared);
+
+        assertEquals(List.of(shared), pokemonService.fetchPokemonPage(0, 1));
+        assertSame(shared, pokemonService.fetchPokemonById(25));
+    }
+
+    @Test
+    void testPlaceholderNode_RedisDown_ServesPlaceholder() {
+        stubApiFailure();
+        pokemonService.preLoadCache();
+        when(redisStore.page(0, 5)).thenThrow(new IllegalStateException("Redis down"));
+
+        List<Pokemon> result = pokemonService.fetchPokemonPage(0, 5);
+
+        assertEquals("Pokemon 1", result.get(0).getName());
+    }
+
+    @Test
+    void testRestoredCatalog_UpstreamDown_KeepsServingItInsteadOfPlaceholders() {
+        stubApiFailure();
+        Pokemon saved = Pokemon.builder()
+                .id(25)
+                .name("Pikachu")
+                .build();
+        PokemonCatalog restarted = new PokemonCatalog();
+        restarted.restore(CatalogSnapshot.of(List.of(saved), Map.of(), 4, Instant.now(), false));
+        PokemonService service = createService(restarted);
+
+        service.preLoadCache();
+
+        assertSame(saved, service.fetchPokemonById(25));
+        assertEquals(4, service.getCatalogStatus().version());
+        assertFalse(service.getCatalogStatus().fallback());
+    }
+
+    @Test
+    void testIngestion_FetchesConfiguredRangeInBatches() {
+        properties.getIngestion().setFirstId(3);
+        properties.getIngestion().setLastId(7);
+        properties.getIngestion().setBatchSize(2);
+        stubApiResponse(MOCK_POKEMON_JSON);
+
+        pokemonService.preLoadCache();
+
+        assertEquals(List.of(3, 4, 5, 6, 7), pokemonService.fetchPokemonPage(0, 20).stream().map(Pokemon::getId).toList());
+        assertEquals(5, pokemonService.getCatalogStatus().lastIngestion().requested());
+    }
+
+    @Test
+    void testIngestion_RegionComesFromGenerationData() {
+        properties.getIngestion().setLastId(3);
+        stubApiResponses(uri -> {
+            String path = uri.getPath();
+            if (path.endsWith("/generation")) return "{\"results\":[{\"name\":\"generation-ii\",\"url\":\"https://pokeapi.co/api/v2/generation/2/\"}]}";
+            if (path.endsWith("/generation/2/")) {
+                return "{\"main_region\":{\"name\":\"johto\"},\"pokemon_species\":[{\"name\":\"chikorita\",\"url\":\"https://pokeapi.co/api/v2/pokemon-species/2/\"}]}";
+            }
+            return MOCK_POKEMON_JSON.replace("\"id\": 1,", "\"id\": 1, \"species\": {\"url\": \"https://pokeapi.co/api/v2/pokemon-species/"
+                    + path.substring(path.lastIndexOf('/') + 1) + "/\"},");
+        });
+
+        pokemonService.preLoadCache();
+
+        assertEquals("Unknown", pokemonService.fetchPokemonById(1).getRegion());
+        assertEquals("Johto", pokemonService.fetchPokemonById(2).getRegion());
+    }
+
+    @Test
+    void testIngestion_CheckpointsEachBatchAndResumesInterruptedRun() {
+        Path checkpointFile = tempDir.resolve("ingestion.checkpoint");
+        properties.getIngestion().setCheckpointFile(checkpointFile.toString());
+        properties.getIngestion().setLastId(6);
+        properties.getIngestion().setBatchSize(2);
+        IngestionCheckpoint checkpoint = new IngestionCheckpoint(properties);
+
+        // An earlier run got through ids 1-3 before it was interrupted
+        List<Pokemon> interrupted = new ArrayList<>();
+        for (int id = 1; id <= 3; id++) {
+            Pokemon p = Pokemon.builder()
+                    .id(id)
+                    .name("Resumed " + id)
+                    .build();
+            interrupted.add(p);
+        }
+        checkpoint.save(interrupted, Map.of(), Instant.now());
+
+        List<String> fetched = new CopyOnWriteArrayList<>();
+        List<Integer> checkpointedBeforeId6 = new CopyOnWriteArrayList<>();
+        stubApiResponses(uri -> {
+            String path = uri.getPath();
+            fetched.add(path);
+            if (path.endsWith("/pokemon/6")) checkpointedBeforeId6.add(checkpoint.resume().size());
+            return MOCK_POKEMON_JSON;
+        });
+
+        pokemonService = createService(new PokemonCatalog());
+        pokemonService.preLoadCache();
+
+        assertFalse(fetched.stream().anyMatch(path -> path.matches(".*/pokemon/[123]")));
+        assertTrue(fetched.stream().anyMatch(path -> path.endsWith("/pokemon/4")));
+        assertEquals("Resumed 2", pokemonService.fetchPokemonById(2).getName());
+        assertEquals("Bulbasaur", pokemonService.fetchPokemonById(5).getName());
+        IngestionReport report = pokemonService.getCatalogStatus().lastIngestion();
+        assertEquals(3, report.resumed());
+        assertEquals(3, report.updated());
+        // Batches [1,2] and [3,4] were saved before [5,6] started, and the finished run clears the file
+        assertEquals(List.of(4), checkpointedBeforeId6);
+        assertFalse(Files.exists(checkpointFile));
+    }
+
+    @Test
+    void testIngestion_RetriesTransientFailuresAndReportsTheRest() {
+        properties.getIngestion().setLastId(4);
+        properties.getResilience().setBackoffBase(Duration.ofMillis(1));
+        AtomicInteger id2Attempts = new AtomicInteger();
+        stubApiResponses(uri -> {
+            String path = uri.getPath();
+            // Connection reset on the first try of id 2, id 4 does not exist
+            if (path.endsWith("/pokemon/2") && id2Attempts.incrementAndGet() == 1) {
+                throw new ResourceAccessException("I/O error", new SocketException("Connection reset"));
+            }
+            return path.endsWith("/pokemon/4") ? null : MOCK_POKEMON_JSON;
+        });
+        pokemonService = createService(new PokemonCatalog());
+
+        pokemonService.preLoadCache();
+
+        assertEquals(2, id2Attempts.get());
+        assertEquals("Bulbasaur", pokemonService.fetchPokemonById(2).getName());
+        IngestionReport report = pokemonService.getCatalogStatus().lastIngestion();
+        assertEquals(1, report.failed());
+        assertEquals(List.of(new IngestionFailure(4, "404 Not Found")), report.failures());
+    }
+
+    @Test
+    void testIngestion_ReportsTimeoutsSeparatelyFromOtherFailures() {
+        properties.getIngestion().setLastId(3);
+        properties.getResilience().setMaxAttempts(1);
+        stubApiResponses(uri -> {
+            String path = uri.getPath();
+            if (path.endsWith("/pokemon/2")) throw new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out"));
+            return path.endsWith("/pokemon/3") ? null : MOCK_POKEMON_JSON;
+        });
+        pokemonService = createService(new PokemonCatalog());
+
+        pokemonService.preLoadCache();
+
+        IngestionReport report = pokemonService.getCatalogStatus().lastIngestion();
+        assertEquals(2, report.failed());
+        assertEquals(1, report.timedOut());
+        assertEquals(List.of(new IngestionFailure(2, "I/O error"), new IngestionFailure(3, "404 Not Found")), report.failures());
+        assertTrue(errContent.toString().contains("Error fetching Pokemon ID 3: 404 Not Found"));
+        assertFalse(errContent.toString().contains("Timed out fetching Pokemon ID 3"));
+    }
+
+    @Test
+    void testIngestion_CallPastItsTimeoutIsReportedAndInterrupted() throws Exception {
+        properties.getIngestion().setLastId(2);
+        properties.getIngestion().setCallTimeout(Duration.ofMillis(200));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        stubApiResponses(uri -> {
+            if (uri.getPath().endsWith("/pokemon/2")) {
+                try {
+                    Thread.sleep(30_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return MOCK_POKEMON_JSON;
+        });
+        pokemonService = createService(new PokemonCatalog());
+
+        pokemonService.preLoadCache();
+
+        IngestionReport report = pokemonService.getCatalogStatus().lastIngestion();
+        assertEquals(1, report.timedOut());
+        assertEquals(List.of(new IngestionFailure(2, "timed out after 200 ms")), report.failures());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "the timed-out call was not interrupted");
+    }
+
+    @Test
+    void testIngestion_TimeoutOfACallRunByTheRefreshThreadDoesNotInterruptIt() throws Exception {
+        // One pool thread and one queue slot: the third call of a batch runs on the refresh thread itself
+        properties.getIngestion().setLastId(3);
+        properties.getIngestion().setExecutor(PokemonProperties.ExecutorMode.PLATFORM);
+        properties.getIngestion().setMaxConcurrency(1);
+        properties.getIngestion().setQueueCapacity(1);
+        properties.getIngestion().setCallTimeout(Duration.ofMillis(200));
+        ExecutorService saturated = IngestionExecutorConfig.create(properties.getIngestion());
+        Thread refreshThread = Thread.currentThread();
+        List<Integer> interruptedOnRefreshThread = new CopyOnWriteArrayList<>();
+        stubApiResponses(uri -> {
+            if (uri.getPath().contains("/pokemon/")) {
+                try {
+                    Thread.sleep(30_000);
+                } catch (InterruptedException e) {
+                    if (Thread.currentThread() == refreshThread) interruptedOnRefreshThread.add(1);
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return MOCK_POKEMON_JSON;
+        });
+        PokeApiClient client = new PokeApiClient(restTemplate, new PokemonPayloadExtractor(new ObjectMapper()),
+                new UpstreamClientStats("test"), properties);
+        pokemonService = new PokemonService(client, new PokemonCatalog(), properties, saturated, redisStore,
+                new IngestionCheckpoint(properties), lease);
+
+        try {
+            pokemonService.preLoadCache();
+        } finally {
+            saturated.shutdownNow();
+        }
+
+        assertEquals(List.of(1), interruptedOnRefreshThread);
+        assertFalse(Thread.interrupted(), "the call timeout leaked an interrupt into the refresh thread");
+        assertEquals(3, pokemonService.getCatalogStatus().lastIngestion().timedOut());
+    }
+
+    @Test
+    void testCallTimeout_DefaultsToTheWholeRetryBudget() {
+        // 3 attempts of up to 10 s, with up to 2 s of backoff before each retry
+        assertEquals(34_000, PokemonService.callTimeoutMillis(properties));
+
+        properties.getIngestion().setCallTimeout(Duration.ofSeconds(5));
+        assertEquals(5_000, PokemonService.callTimeoutMillis(properties));
+    }
+
     @Test
     void testRefreshCache() {
         // Mock API failure to test the fallback path in refresh
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
 
         assertDoesNotThrow(() -> pokemonService.refreshCache());
 
@@ -338,18 +729,9 @@ class PokemonServiceTest {
     }
 
     @Test
-    void testRefreshCache_WithSuccessfulAPI() throws Exception {
+    void testRefreshCache_WithSuccessfulAPI() {
         // Mock successful API response for refresh
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenReturn(MOCK_POKEMON_JSON);
-        when(objectMapper.readTree(anyString())).thenReturn(mockJsonNode);
-        when(mockJsonNode.get("name")).thenReturn(mockJsonNode);
-        when(mockJsonNode.asText()).thenReturn("bulbasaur");
-        when(mockJsonNode.get("sprites")).thenReturn(mockSpritesNode);
-        when(mockSpritesNode.get("front_default")).thenReturn(mockJsonNode);
-        when(mockSpritesNode.get("back_default")).thenReturn(mockJsonNode);
-        when(mockJsonNode.get("types")).thenReturn(mockTypesNode);
-        doAnswer(invocation -> null).when(mockTypesNode).forEach(any());
+        stubApiResponse(MOCK_POKEMON_JSON);
 
         assertDoesNotThrow(() -> pokemonService.refreshCache());
 
@@ -357,17 +739,129 @@ class PokemonServiceTest {
         assertTrue(outContent.toString().contains("Refreshing Pokemon cache..."));
     }
 
+    @Test
+    void testRefreshCache_KeepsPreviousCatalogWhenUpstreamFails() {
+        stubApiResponse(MOCK_POKEMON_JSON);
+
+        pokemonService.preLoadCache();
+        CatalogStatus loaded = pokemonService.getCatalogStatus();
+        assertEquals(150, loaded.size());
+        assertFalse(loaded.fallback());
+
+        // Upstream goes down: the previous version keeps serving
+        reset(restTemplate);
+        stubApiFailure();
+        pokemonService.refreshCache();
+
+        CatalogStatus afterRefresh = pokemonService.getCatalogStatus();
+        assertEquals(loaded.version(), afterRefresh.version());
+        assertEquals(150, afterRefresh.size());
+        assertTrue(afterRefresh.lastRefreshOutcome().startsWith("kept version"));
+        assertEquals("Bulbasaur", pokemonService.fetchPokemonById(150).getName());
+    }
+
+    @Test
+    void testRefreshCache_ReplacesPlaceholderCatalog() {
+        stubApiFailure();
+        pokemonService.preLoadCache();
+        assertTrue(pokemonService.getCatalogStatus().fallback());
+
+        reset(restTemplate);
+        stubApiResponse(MOCK_POKEMON_JSON);
+
+        pokemonService.refreshCache();
+
+        CatalogStatus status = pokemonService.getCatalogStatus();
+        assertFalse(status.fallback());
+        assertEquals(150, status.size());
+        assertEquals("Bulbasaur", pokemonService.fetchPokemonById(1).getName());
+    }
+
+    @Test
+    void testRefreshCache_ConditionalRequestsReuseUnchangedEntries() {
+        stubApiResponse(MOCK_POKEMON_JSON);
+
+        pokemonService.preLoadCache();
+        Pokemon before = pokemonService.fetchPokemonById(42);
+        assertEquals(150, pokemonService.getCatalogStatus().lastIngestion().updated());
+
+        pokemonService.refreshCache();
+
+        IngestionReport report = pokemonService.getCatalogStatus().lastIngestion();
+        assertEquals(150, report.unchanged());
+        assertEquals(0, report.updated());
+        assertEquals(0, report.failed());
+        // 304s reuse the published entry instead of re-parsing
+        assertSame(before, pokemonService.fetchPokemonById(42));
+    }
+
+    @Test
+    void testMetrics_IngestionRunsEntriesAndCatalogGauges() {
+        stubApiResponse(MOCK_POKEMON_JSON);
+        PokemonCatalog catalog = new PokemonCatalog();
+        pokemonService = createService(catalog);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        pokemonService.bindTo(registry);
+        catalog.bindTo(registry);
+
+        pokemonService.preLoadCache();
+        pokemonService.refreshCache();
+
+        assertEquals(2, registry.get("pokemon.ingestion.runs").functionTimer().count());
+        assertEquals(150, registry.get("pokemon.ingestion.entries").tag("result", "updated").functionCounter().count());
+        assertEquals(150, registry.get("pokemon.ingestion.entries").tag("result", "unchanged").functionCounter().count());
+        assertEquals(0, registry.get("pokemon.ingestion.last.entries").tag("result", "updated").gauge().value());
+        assertEquals(150, registry.get("pokemon.ingestion.last.entries").tag("result", "unchanged").gauge().value());
+        assertEquals(0, registry.get("pokemon.refresh.running").gauge().value());
+        assertEquals(150, registry.get("pokemon.catalog.size").gauge().value());
+        assertEquals(0, registry.get("pokemon.catalog.fallback").gauge().value());
+        assertTrue(registry.get("pokemon.catalog.age").timeGauge().value(TimeUnit.MILLISECONDS) >= 0);
+    }
+
     @Test
     void testErrorHandling_ConsoleOutput() {
         // Test that error messages are properly logged to console
-        when(restTemplate.getForObject(anyString(), eq(String.class)))
-                .thenThrow(new RestClientException("API Error"));
+        stubApiFailure();
 
-        pokemonService.fetchAllPokemon();
+        pokemonService.preLoadCache();
 
         // Verify error messages were captured
         String errorOutput = errContent.toString();
         assertTrue(errorOutput.contains("Error fetching Pokemon ID"));
         assertTrue(errorOutput.contains("API Error"));
     }
-}
\ No newline at end of file
+
+    // Serves json with ETag "v1" and answers 304 to requests that already carry it
+    private List<Pokemon> pokemonsWithIds(int... ids) {
+        return Arrays.stream(ids).mapToObj(id -> Pokemon.builder().id(id).name("Pokemon " + id).build()).toList();
+    }
+
+    private void stubApiResponse(String json) {
+        stubApiResponses(uri -> json);
+    }
+
+    // Body per requested URI (PokeAPI paths such as /pokemon/25 or /generation?limit=100)
+    private void stubApiResponses(Function<URI, String> bodies) {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+                .thenAnswer(invocation -> {
+                    String json = bodies.apply(invocation.getArgument(0));
+                    if (json == null) throw new RestClientException("404 Not Found");
+                    MockClientHttpRequest request = new MockClientHttpRequest();
+                    RequestCallback callback = invocation.getArgument(2);
+                    if (callback != null) callback.doWithRequest(request);
+
+                    MockClientHttpResponse response = request.getHeaders().getIfNoneMatch().contains(ETAG)
+                            ? new MockClientHttpResponse(new byte[0], HttpStatus.NOT_MODIFIED)
+                            : new MockClientHttpResponse(json.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+                    response.getHeaders().setETag(ETAG);
+
+                    ResponseExtractor<?> extractor = invocation.getArgument(3);
+                    return extractor.extractData(response);
+                });
+    }
+
+    private void stubApiFailure() {
+        when(restTemplate.execute(any(URI.class), eq(HttpMethod.GET), any(), ArgumentMatchers.<ResponseExtractor<Object>>any()))
+                .thenThrow(new RestClientException("API Error"));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bolttech.pokemon.pokemon_backend.type;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.bolttech.pokemon.pokemon_backend.type.PokemonType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TypeChartTest {
+
+    @Test
+    void testSingleTypeMultipliers() {
+        assertEquals(2f, TypeChart.multiplier(WATER, FIRE));
+        assertEquals(0.5f, TypeChart.multiplier(FIRE, WATER));
+        assertEquals(0f, TypeChart.multiplier(NORMAL, GHOST));
+        assertEquals(0f, TypeChart.multiplier(DRAGON, FAIRY));
+        assertEquals(1f, TypeChart.multiplier(FIRE, NORMAL));
+    }
+
+    @Test
+    void testDualTypesMultiply() {
+        int charizard = TypeChart.combo(List.of("fire", "flying"));
+        assertEquals(4f, TypeChart.multiplier(ROCK, charizard));
+        assertEquals(0f, TypeChart.multiplier(GROUND, charizard));
+        assertEquals(0.25f, TypeChart.multiplier(GRASS, charizard));
+
+        // Order of the types does not change the multipliers
+        int reversed = TypeChart.combo(List.of("FLYING", "Fire"));
+        for (PokemonType attack : PokemonType.values()) {
+            assertEquals(TypeChart.multiplier(attack, charizard), TypeChart.multiplier(attack, reversed));
+        }
+    }
+
+    @Test
+    void testProfilesOrderStrongestFirstAndAreShared() {
+        TypeProfile charizard = TypeChart.profile(List.of("fire", "flying"));
+
+        assertEquals(List.of("rock", "water", "electric"), charizard.weaknesses());
+        assertEquals(List.of("grass", "bug", "fire", "fighting", "steel", "fairy"), charizard.resistances());
+        assertEquals(List.of("ground"), charizard.immunities());
+        assertSame(charizard, TypeChart.profile(List.of("fire", "flying")));
+
+        TypeProfile gengar = TypeChart.profile(List.of("ghost", "poison"));
+        assertEquals(List.of("normal", "fighting"), gengar.immunities());
+    }
+
+    @Test
+    void testUnknownAndMissingTypesAreNeutral() {
+        assertEquals(TypeChart.NO_COMBO, TypeChart.combo(null));
+        assertEquals(TypeChart.NO_COMBO, TypeChart.combo(List.of("shadow")));
+        assertSame(TypeProfile.NEUTRAL, TypeChart.profile(List.of()));
+        assertEquals(1f, TypeChart.multiplier(FIRE, TypeChart.NO_COMBO));
+        // Unknown names are skipped, the known one still counts
+        assertEquals(TypeChart.combo(List.of("fire")), TypeChart.combo(List.of("shadow", "fire", "fire")));
+    }
+}
@@ -10,7 +10,8 @@ function App() {
   const [initialLoad, setInitialLoad] = useState(true);
 
   const pageSize = 20;
-  const pageRef = useRef(0);       // track current page
+  const cursorRef = useRef(null);  // cursor of the next page (null = first page)
+  const pageRef = useRef(0);       // pages loaded so far
   const loadingRef = useRef(false); // track loading state
 
   const fetchPokemon = async () => {
@@ -19,8 +20,11 @@ function App() {
     loadingRef.current = true;
     try {
       console.log(`Fetching page: ${pageRef.current}`);
-      const res = await axios.get(`http://localhost:8080/api/pokemons?page=${pageRef.current}&size=${pageSize}`);
-      const newPokemons = res.data;
+      // Cursor paging: pages never overlap, even if the catalog is refreshed mid-scroll
+      const params = { size: pageSize };
+      if (cursorRef.current) params.cursor = cursorRef.current;
+      const res = await axios.get("http://localhost:8080/api/pokemons", { params });
+      const { pokemons: newPokemons, next } = res.data;
 
       if (!Array.isArray(newPokemons) || newPokemons.length === 0) {
         setHasMore(false);
@@ -28,14 +32,15 @@ function App() {
       }
 
       setPokemonList(prev => {
-        // Remove duplicates just in case
+        // Remove duplicates just in case (StrictMode runs the first fetch twice, scroll can fire repeatedly)
         const existingIds = new Set(prev.map(p => p.id));
         const filteredNew = newPokemons.filter(p => !existingIds.has(p.id));
         return [...prev, ...filteredNew];
       });
 
-      pageRef.current += 1; // increment page
-      if (newPokemons.length < pageSize) setHasMore(false);
+      pageRef.current += 1;
+      cursorRef.current = next;
+      if (!next) setHasMore(false);
 
     } catch (error) {
       console.error("Error fetching Pokémon:", error);
@@ -52,6 +57,7 @@ function App() {
   const refreshData = () => {
     setPokemonList([]);
     pageRef.current = 0;
+    cursorRef.current = null;
     setHasMore(true);
     setInitialLoad(true);
   };